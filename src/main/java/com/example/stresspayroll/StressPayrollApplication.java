@@ -2,8 +2,10 @@ package com.example.stresspayroll;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class StressPayrollApplication {
     public static void main(String[] args) {
         SpringApplication.run(StressPayrollApplication.class, args);
@@ -0,0 +1,145 @@
+package com.example.stresspayroll.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit for one endpoint with a bounded wait queue.
+ * The limit adapts to observed latency (AIMD): while requests complete close to the
+ * best latency seen recently the limit grows by roughly one per limit's worth of
+ * completions, and once latency rises past {@code tolerance} times that baseline,
+ * or a request fails, it is cut multiplicatively. Only successful requests are timed:
+ * a fast validation rejection says nothing about how loaded the database is, and would
+ * otherwise drag the baseline down and make every normal request look slow.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final double tolerance;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private double baselineNanos = Double.NaN;
+    private double smoothedNanos = Double.NaN;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      int maxQueue, long maxWaitMillis, double tolerance) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a permit, waiting at most the configured time for one to free up.
+     * Returns false straight away when the wait queue is already full.
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= maxQueue) {
+                return false;
+            }
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = permitReleased.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long latencyNanos, Outcome outcome) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= (int) limit;
+            inFlight--;
+
+            if (outcome == Outcome.FAILURE) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            } else if (outcome == Outcome.SUCCESS) {
+                smoothedNanos = Double.isNaN(smoothedNanos) ? latencyNanos : smoothedNanos * 0.8 + latencyNanos * 0.2;
+                if (Double.isNaN(baselineNanos) || latencyNanos < baselineNanos) {
+                    baselineNanos = latencyNanos;
+                } else {
+                    // Let the baseline creep up so a permanently slower database is not read as overload forever.
+                    baselineNanos += (latencyNanos - baselineNanos) * BASELINE_DRIFT;
+                }
+
+                if (smoothedNanos > baselineNanos * tolerance) {
+                    limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                } else if (saturated) {
+                    limit = Math.min(maxLimit, limit + 1.0 / limit);
+                }
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Seconds a rejected client should wait: roughly the time to drain the queue at the
+     * current limit and latency, never less than one second.
+     */
+    public long retryAfterSeconds() {
+        lock.lock();
+        try {
+            double latency = Double.isNaN(smoothedNanos) ? 0 : smoothedNanos;
+            double drainNanos = latency * (waiting + 1) / Math.max(1, (int) limit);
+            return Math.max(1, (long) Math.ceil(drainNanos / TimeUnit.SECONDS.toNanos(1)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * How a limited request ended. SUCCESS feeds the latency estimate, FAILURE (a server
+     * error) backs the limit off, IGNORED (a client error) only frees the permit.
+     */
+    public enum Outcome {
+        SUCCESS, IGNORED, FAILURE
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.stresspayroll.admission;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies per-endpoint concurrency limits to the payday write endpoints before they
+ * reach the controller, so a burst of payslip generation cannot take every pooled
+ * connection. Requests over the limit wait in a short bounded queue and are then
+ * rejected with 429 and Retry-After; every other endpoint passes straight through.
+ */
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private Environment environment;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<LimitedEndpoint> endpoints = new ArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        endpoints.add(new LimitedEndpoint("POST", "/api/employee/*/generate-payslip",
+            limiter("generate-payslip", 6, 2, 8, 32, 500)));
+        endpoints.add(new LimitedEndpoint("PUT", "/api/employee/payslip/*/download",
+            limiter("download", 4, 2, 6, 64, 250)));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = match(request);
+        if (limiter == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        boolean admitted;
+        try {
+            admitted = limiter.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            reject(response, limiter);
+            return;
+        }
+
+        long start = System.nanoTime();
+        AdaptiveConcurrencyLimiter.Outcome outcome = AdaptiveConcurrencyLimiter.Outcome.FAILURE;
+        try {
+            chain.doFilter(request, response);
+            outcome = outcomeOf(response.getStatus());
+        } finally {
+            limiter.release(System.nanoTime() - start, outcome);
+        }
+    }
+
+    private static AdaptiveConcurrencyLimiter.Outcome outcomeOf(int status) {
+        if (status >= 500) {
+            return AdaptiveConcurrencyLimiter.Outcome.FAILURE;
+        }
+        return status < 300 ? AdaptiveConcurrencyLimiter.Outcome.SUCCESS : AdaptiveConcurrencyLimiter.Outcome.IGNORED;
+    }
+
+    private AdaptiveConcurrencyLimiter match(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (LimitedEndpoint endpoint : endpoints) {
+            if (endpoint.method.equals(request.getMethod()) && pathMatcher.match(endpoint.pattern, path)) {
+                return endpoint.limiter;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, AdaptiveConcurrencyLimiter limiter) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limiter.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many concurrent " + limiter.getName()
+            + " requests, please retry shortly\"}");
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                               int maxQueue, long maxWaitMillis) {
+        String prefix = "app.admission." + name + ".";
+        return new AdaptiveConcurrencyLimiter(name,
+            environment.getProperty(prefix + "initial-limit", Integer.class, initialLimit),
+            environment.getProperty(prefix + "min-limit", Integer.class, minLimit),
+            environment.getProperty(prefix + "max-limit", Integer.class, maxLimit),
+            environment.getProperty(prefix + "max-queue", Integer.class, maxQueue),
+            environment.getProperty(prefix + "max-wait-ms", Long.class, maxWaitMillis),
+            environment.getProperty("app.admission.latency-tolerance", Double.class, 2.0));
+    }
+
+    private record LimitedEndpoint(String method, String pattern, AdaptiveConcurrencyLimiter limiter) {
+    }
+}
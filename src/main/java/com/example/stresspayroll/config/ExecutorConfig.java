@@ -0,0 +1,36 @@
+package com.example.stresspayroll.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${app.overview.executor.pool-size:4}")
+    private int overviewPoolSize;
+
+    @Value("${app.overview.executor.queue-capacity:64}")
+    private int overviewQueueCapacity;
+
+    /**
+     * Runs the independent queries behind the dashboard overview endpoints.
+     * Kept small and bounded so it can never take more pooled connections than
+     * it has threads; when the queue is full the caller runs the query itself.
+     */
+    @Bean(name = "overviewExecutor")
+    public ThreadPoolTaskExecutor overviewExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(overviewPoolSize);
+        executor.setMaxPoolSize(overviewPoolSize);
+        executor.setQueueCapacity(overviewQueueCapacity);
+        executor.setThreadNamePrefix("overview-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
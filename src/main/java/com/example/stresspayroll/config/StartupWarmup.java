@@ -0,0 +1,244 @@
+package com.example.stresspayroll.config;
+
+import com.example.stresspayroll.dto.EmployeeOverview;
+import com.example.stresspayroll.dto.GeneratePayslipResponse;
+import com.example.stresspayroll.dto.HrOverview;
+import com.example.stresspayroll.dto.PayslipView;
+import com.example.stresspayroll.dto.StressEntryDetail;
+import com.example.stresspayroll.dto.StressEntrySummary;
+import com.example.stresspayroll.model.Employee;
+import com.example.stresspayroll.model.Payslip;
+import com.example.stresspayroll.model.StressEntry;
+import com.example.stresspayroll.repository.EmployeeRepository;
+import com.example.stresspayroll.repository.PayslipRepository;
+import com.example.stresspayroll.repository.StressEntryRepository;
+import com.example.stresspayroll.repository.UserRepository;
+import com.example.stresspayroll.service.EmployeeSearchIndex;
+import com.example.stresspayroll.service.OverviewService;
+import com.example.stresspayroll.service.PayrollService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Warm-start mode. Runs before the application reports ready, so a restarted instance
+ * only takes traffic once the connection pool is full, the Hibernate query plans,
+ * payroll calculation path, BCrypt and JSON serializers have been exercised and the
+ * reference caches are loaded. Each phase is timed and logged as a startup report.
+ * A phase that fails is logged and skipped; warm-up never blocks startup outright.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.warmup.enabled", havingValue = "true")
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private StressEntryRepository stressEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Autowired
+    private OverviewService overviewService;
+
+    @Value("${app.warmup.iterations:2000}")
+    private int iterations;
+
+    @Value("${app.warmup.bcrypt-iterations:3}")
+    private int bcryptIterations;
+
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long contextMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+
+        long start = System.nanoTime();
+        phase("connection-pool", this::fillConnectionPool);
+        phase("hibernate-queries", this::warmQueries);
+        phase("payroll-calculation", this::warmPayrollCalculation);
+        phase("bcrypt", this::warmPasswordEncoder);
+        phase("json-serializers", this::warmSerializers);
+        phase("search-index", employeeSearchIndex::rebuild);
+        phase("hr-overview-cache", overviewService::getHrOverview);
+        long warmupMillis = (System.nanoTime() - start) / 1_000_000;
+
+        StringBuilder report = new StringBuilder("Startup timing report:\n");
+        report.append(String.format("  %-22s %8d ms%n", "jvm-to-context", contextMillis));
+        timings.forEach((name, millis) -> report.append(String.format("  %-22s %8d ms%n", name, millis)));
+        report.append(String.format("  %-22s %8d ms", "warm-up total", warmupMillis));
+        log.info(report.toString());
+    }
+
+    private void phase(String name, Runnable work) {
+        long start = System.nanoTime();
+        try {
+            work.run();
+        } catch (Exception e) {
+            log.warn("Warm-up phase {} failed: {}", name, e.getMessage());
+        }
+        timings.put(name, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Opens every pooled connection up front instead of letting the pool grow under the
+     * first burst of requests.
+     */
+    private void fillConnectionPool() {
+        int size = dataSource instanceof HikariDataSource
+            ? ((HikariDataSource) dataSource).getMaximumPoolSize()
+            : 1;
+        List<Connection> connections = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (Exception ignored) {
+                    // returning to the pool; nothing to recover
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles the query plans used on hot paths. The random id matches nothing.
+     */
+    private void warmQueries() {
+        UUID none = UUID.randomUUID();
+        employeeRepository.count();
+        userRepository.count();
+        employeeRepository.findById(none);
+        payslipRepository.findViewsByEmployeeId(none);
+        payslipRepository.countByEmployeeId(none);
+        payslipRepository.sumPaperSavedGramsByEmployeeId(none);
+        payslipRepository.findByEmployeeIdAndMonthAndYear(none, 1, 2020);
+        stressEntryRepository.findSummariesByEmployeeId(none);
+        stressEntryRepository.findFirstByEmployeeIdOrderByYearDescMonthDesc(none);
+        stressEntryRepository.countByStressCategory("CRITICAL");
+        stressEntryRepository.countByRequiresCounselingTrue();
+    }
+
+    private void warmPayrollCalculation() {
+        Employee employee = syntheticEmployee();
+        for (int i = 0; i < iterations; i++) {
+            StressEntry entry = payrollService.assessStress(employee.getId(), 1 + i % 12, 2020,
+                BigDecimal.valueOf(i % 40), 22, 14 + i % 9, i % 3, i % 4);
+            payrollService.calculatePayslip(employee, entry);
+        }
+    }
+
+    private void warmPasswordEncoder() {
+        String hash = passwordEncoder.encode("warm-up");
+        for (int i = 0; i < bcryptIterations; i++) {
+            passwordEncoder.matches("warm-up", hash);
+        }
+    }
+
+    private void warmSerializers() {
+        Employee employee = syntheticEmployee();
+        StressEntry entry = payrollService.assessStress(employee.getId(), 1, 2020,
+            new BigDecimal("18"), 22, 20, 1, 1);
+        entry.setId(UUID.randomUUID());
+        Payslip payslip = payrollService.calculatePayslip(employee, entry);
+        payslip.setId(UUID.randomUUID());
+        payslip.setGeneratedAt(LocalDateTime.now());
+
+        PayslipView payslipView = PayslipView.from(payslip);
+        List<PayslipView> payslips = List.of(payslipView, payslipView, payslipView);
+        StressEntrySummary summary = new StressEntrySummary(entry.getId(), entry.getMonth(), entry.getYear(),
+            entry.getOvertimeHours(), entry.getStressLevel(), entry.getStressCategory(),
+            entry.getStressFactors(), entry.getRequiresCounseling());
+        List<StressEntrySummary> summaries = List.of(summary, summary, summary);
+        GeneratePayslipResponse generated = new GeneratePayslipResponse(payslipView,
+            StressEntryDetail.from(entry), payrollService.getPsychologistContact());
+        EmployeeOverview overview = new EmployeeOverview(
+            new EmployeeOverview.Profile(employee.getId(), employee.getFullName(), employee.getEmployeeCode(),
+                employee.getDepartment(), employee.getDesignation()),
+            3, new BigDecimal("13.5"),
+            new EmployeeOverview.LatestStress(1, 2020, entry.getStressLevel(), entry.getStressCategory(), false));
+        HrOverview hrOverview = new HrOverview(100, 3, 12, 3);
+
+        try {
+            for (int i = 0; i < iterations; i++) {
+                objectMapper.writeValueAsBytes(payslips);
+                objectMapper.writeValueAsBytes(summaries);
+                objectMapper.writeValueAsBytes(generated);
+                objectMapper.writeValueAsBytes(overview);
+                objectMapper.writeValueAsBytes(hrOverview);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Employee syntheticEmployee() {
+        Employee employee = new Employee();
+        employee.setId(UUID.randomUUID());
+        employee.setFullName("Warm Up");
+        employee.setEmployeeCode("WARMUP");
+        employee.setDepartment("General");
+        employee.setDesignation("Employee");
+        employee.setBaseSalary(new BigDecimal("50000"));
+        employee.setJoinDate(LocalDate.now());
+        return employee;
+    }
+}
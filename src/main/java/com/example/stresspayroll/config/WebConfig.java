@@ -0,0 +1,42 @@
+package com.example.stresspayroll.config;
+
+import com.example.stresspayroll.dto.ViewSerializers;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    /**
+     * Picked up by Spring Boot's Jackson auto-configuration, so the pre-built view
+     * serializers apply to the application ObjectMapper and to the Smile mapper below.
+     */
+    @Bean
+    public Module viewSerializersModule() {
+        return ViewSerializers.module();
+    }
+
+    /**
+     * Serves {@code application/x-jackson-smile} to clients that ask for it in Accept;
+     * everyone else keeps getting JSON.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+            objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+    }
+}
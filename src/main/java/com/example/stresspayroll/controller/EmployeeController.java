@@ -1,20 +1,31 @@
 package com.example.stresspayroll.controller;
 
+import com.example.stresspayroll.dto.GeneratePayslipResponse;
+import com.example.stresspayroll.dto.PayslipDownloadResponse;
+import com.example.stresspayroll.dto.PayslipView;
+import com.example.stresspayroll.dto.StressEntryDetail;
+import com.example.stresspayroll.dto.StressEntrySummary;
 import com.example.stresspayroll.model.Employee;
 import com.example.stresspayroll.model.Payslip;
 import com.example.stresspayroll.model.StressEntry;
 import com.example.stresspayroll.repository.EmployeeRepository;
 import com.example.stresspayroll.repository.PayslipRepository;
 import com.example.stresspayroll.repository.StressEntryRepository;
+import com.example.stresspayroll.service.EarningsSummaryService;
+import com.example.stresspayroll.service.LeaveService;
+import com.example.stresspayroll.service.OverviewService;
 import com.example.stresspayroll.service.PayrollService;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -36,6 +47,15 @@ public class EmployeeController {
     @Autowired
     private StressEntryRepository stressEntryRepository;
 
+    @Autowired
+    private OverviewService overviewService;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private EarningsSummaryService earningsSummaryService;
+
     @GetMapping("/{employeeId}")
     public ResponseEntity<?> getEmployee(@PathVariable String employeeId) {
         try {
@@ -47,6 +67,15 @@ public class EmployeeController {
         }
     }
 
+    @GetMapping("/{employeeId}/overview")
+    public ResponseEntity<?> getOverview(@PathVariable String employeeId) {
+        try {
+            return ResponseEntity.ok(overviewService.getEmployeeOverview(UUID.fromString(employeeId)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @PostMapping("/{employeeId}/generate-payslip")
     public ResponseEntity<?> generatePayslip(
             @PathVariable String employeeId,
@@ -69,12 +98,13 @@ public class EmployeeController {
             StressEntry stressEntry = stressEntryRepository.findById(payslip.getStressEntryId())
                 .orElseThrow(() -> new RuntimeException("Stress entry not found"));
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("payslip", payslip);
-            response.put("stressEntry", stressEntry);
-            response.put("psychologistContact", payrollService.getPsychologistContact());
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new GeneratePayslipResponse(
+                PayslipView.from(payslip),
+                StressEntryDetail.from(stressEntry),
+                payrollService.getPsychologistContact()
+            ));
+        } catch (TransientDataAccessException | DataAccessResourceFailureException | TransactionException e) {
+            return unavailable();
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -84,7 +114,7 @@ public class EmployeeController {
     public ResponseEntity<?> getPayslips(@PathVariable String employeeId) {
         try {
             UUID empId = UUID.fromString(employeeId);
-            List<Payslip> payslips = payslipRepository.findByEmployeeIdOrderByYearDescMonthDesc(empId);
+            List<PayslipView> payslips = payslipRepository.findViewsByEmployeeId(empId);
             return ResponseEntity.ok(payslips);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -95,13 +125,52 @@ public class EmployeeController {
     public ResponseEntity<?> getStressEntries(@PathVariable String employeeId) {
         try {
             UUID empId = UUID.fromString(employeeId);
-            List<StressEntry> entries = stressEntryRepository.findByEmployeeIdOrderByYearDescMonthDesc(empId);
+            List<StressEntrySummary> entries = stressEntryRepository.findSummariesByEmployeeId(empId);
             return ResponseEntity.ok(entries);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
 
+    @GetMapping("/{employeeId}/stress-entries/{entryId}")
+    public ResponseEntity<?> getStressEntry(@PathVariable String employeeId, @PathVariable String entryId) {
+        try {
+            UUID empId = UUID.fromString(employeeId);
+            StressEntry entry = stressEntryRepository.findById(UUID.fromString(entryId))
+                .filter(e -> empId.equals(e.getEmployeeId()))
+                .orElseThrow(() -> new RuntimeException("Stress entry not found"));
+            return ResponseEntity.ok(StressEntryDetail.from(entry));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{employeeId}/leave-balance")
+    public ResponseEntity<?> getLeaveBalance(
+            @PathVariable String employeeId,
+            @RequestParam(required = false) Integer year) {
+        try {
+            UUID empId = UUID.fromString(employeeId);
+            int balanceYear = year != null ? year : LocalDate.now().getYear();
+            return ResponseEntity.ok(leaveService.getBalance(empId, balanceYear));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{employeeId}/annual-summary")
+    public ResponseEntity<?> getAnnualSummary(
+            @PathVariable String employeeId,
+            @RequestParam(required = false) Integer year) {
+        try {
+            UUID empId = UUID.fromString(employeeId);
+            int summaryYear = year != null ? year : LocalDate.now().getYear();
+            return ResponseEntity.ok(earningsSummaryService.getSummary(empId, summaryYear));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @PutMapping("/payslip/{payslipId}/download")
     public ResponseEntity<?> markPayslipDownloaded(@PathVariable String payslipId) {
         try {
@@ -112,19 +181,29 @@ public class EmployeeController {
             payslip.setDownloadedAt(LocalDateTime.now());
             payslip = payslipRepository.save(payslip);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("payslip", payslip);
-            response.put("paperSavedGrams", payslip.getPaperSavedGrams());
-            response.put("treesSaved", payslip.getTreesSaved());
-            response.put("message", String.format(
-                "You've saved %.2f grams of paper and %.6f trees by downloading digitally!",
+            return ResponseEntity.ok(new PayslipDownloadResponse(
+                payslip.getId(),
+                payslip.getDownloadedAt(),
                 payslip.getPaperSavedGrams(),
-                payslip.getTreesSaved()
+                payslip.getTreesSaved(),
+                String.format(
+                    "You've saved %.2f grams of paper and %.6f trees by downloading digitally!",
+                    payslip.getPaperSavedGrams(),
+                    payslip.getTreesSaved()
+                )
             ));
-
-            return ResponseEntity.ok(response);
+        } catch (TransientDataAccessException | DataAccessResourceFailureException | TransactionException e) {
+            return unavailable();
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    /**
+     * Pool exhaustion, lock and transaction timeouts are the server's fault, not the
+     * request's. Answering 503 lets the admission limiter count them as overload.
+     */
+    private ResponseEntity<?> unavailable() {
+        return ResponseEntity.status(503).body(Map.of("error", "Service temporarily unavailable, please retry"));
+    }
 }
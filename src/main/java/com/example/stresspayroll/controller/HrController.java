@@ -1,15 +1,33 @@
 package com.example.stresspayroll.controller;
 
+import com.example.stresspayroll.dto.PayslipView;
+import com.example.stresspayroll.dto.StressEntrySummary;
 import com.example.stresspayroll.model.Employee;
-import com.example.stresspayroll.model.Payslip;
+import com.example.stresspayroll.model.LeaveBalance;
+import com.example.stresspayroll.model.PayrollRun;
 import com.example.stresspayroll.model.StressEntry;
 import com.example.stresspayroll.repository.EmployeeRepository;
 import com.example.stresspayroll.repository.PayslipRepository;
 import com.example.stresspayroll.repository.StressEntryRepository;
+import com.example.stresspayroll.service.EarningsSummaryService;
+import com.example.stresspayroll.service.EmployeeSearchIndex;
+import com.example.stresspayroll.service.LeaveService;
+import com.example.stresspayroll.service.OverviewService;
+import com.example.stresspayroll.service.PayrollRunService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -28,6 +46,30 @@ public class HrController {
     @Autowired
     private StressEntryRepository stressEntryRepository;
 
+    @Autowired
+    private OverviewService overviewService;
+
+    @Autowired
+    private PayrollRunService payrollRunService;
+
+    @Autowired
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private EarningsSummaryService earningsSummaryService;
+
+    @GetMapping("/overview")
+    public ResponseEntity<?> getOverview() {
+        try {
+            return ResponseEntity.ok(overviewService.getHrOverview());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/employees")
     public ResponseEntity<?> getAllEmployees() {
         try {
@@ -38,6 +80,24 @@ public class HrController {
         }
     }
 
+    @GetMapping("/employees/search")
+    public ResponseEntity<?> searchEmployees(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            if (!employeeSearchIndex.isReady()) {
+                return ResponseEntity.status(503).body(Map.of("error", "Search index is still loading"));
+            }
+            int pageSize = Math.max(1, Math.min(size, 100));
+            // Typeahead never pages deep; bounding the offset bounds the ranking work per request.
+            int lastPage = EmployeeSearchIndex.MAX_RANKED_RESULTS / pageSize - 1;
+            return ResponseEntity.ok(employeeSearchIndex.search(query, Math.max(0, Math.min(page, lastPage)), pageSize));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/employee/{employeeId}")
     public ResponseEntity<?> getEmployee(@PathVariable String employeeId) {
         try {
@@ -53,7 +113,7 @@ public class HrController {
     public ResponseEntity<?> getEmployeePayslips(@PathVariable String employeeId) {
         try {
             UUID empId = UUID.fromString(employeeId);
-            List<Payslip> payslips = payslipRepository.findByEmployeeIdOrderByYearDescMonthDesc(empId);
+            List<PayslipView> payslips = payslipRepository.findViewsByEmployeeId(empId);
             return ResponseEntity.ok(payslips);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -64,7 +124,7 @@ public class HrController {
     public ResponseEntity<?> getEmployeeStressEntries(@PathVariable String employeeId) {
         try {
             UUID empId = UUID.fromString(employeeId);
-            List<StressEntry> entries = stressEntryRepository.findByEmployeeIdOrderByYearDescMonthDesc(empId);
+            List<StressEntrySummary> entries = stressEntryRepository.findSummariesByEmployeeId(empId);
             return ResponseEntity.ok(entries);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -92,4 +152,67 @@ public class HrController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    @GetMapping("/leave-report")
+    public ResponseEntity<?> getLeaveReport(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            int reportYear = year != null ? year : LocalDate.now().getYear();
+            Page<LeaveBalance> balances = leaveService.getYearReport(reportYear, Math.max(0, page),
+                Math.max(1, Math.min(size, 1000)));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("year", reportYear);
+            response.put("total", balances.getTotalElements());
+            response.put("page", balances.getNumber());
+            response.put("balances", balances.getContent());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/annual-summary/export")
+    public ResponseEntity<StreamingResponseBody> exportAnnualSummary(@RequestParam Integer year) {
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            earningsSummaryService.exportYear(year, writer);
+        };
+        return ResponseEntity.ok()
+            .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"annual-summary-" + year + ".csv\"")
+            .body(body);
+    }
+
+    @PostMapping("/payroll-runs")
+    public ResponseEntity<?> startPayrollRun(@RequestBody Map<String, Object> body) {
+        try {
+            Integer month = Integer.parseInt(body.get("month").toString());
+            Integer year = Integer.parseInt(body.get("year").toString());
+            Integer workingDays = Integer.parseInt(body.getOrDefault("workingDays", 22).toString());
+            Integer partitions = body.containsKey("partitions")
+                ? Integer.parseInt(body.get("partitions").toString())
+                : null;
+
+            PayrollRun run = payrollRunService.createRun(month, year, workingDays, partitions);
+            return ResponseEntity.ok(run);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/payroll-runs/{runId}")
+    public ResponseEntity<?> getPayrollRun(@PathVariable String runId) {
+        try {
+            UUID id = UUID.fromString(runId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("run", payrollRunService.getRun(id));
+            response.put("partitions", payrollRunService.getPartitions(id));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
 }
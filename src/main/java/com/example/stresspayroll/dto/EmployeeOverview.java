@@ -0,0 +1,19 @@
+package com.example.stresspayroll.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Everything the employee dashboard needs on first load. {@code latestStress} is null
+ * until the employee has generated a payslip.
+ */
+public record EmployeeOverview(Profile employee, long totalPayslips, BigDecimal paperSavedGrams,
+                               LatestStress latestStress) {
+
+    public record Profile(UUID id, String fullName, String employeeCode, String department, String designation) {
+    }
+
+    public record LatestStress(Integer month, Integer year, BigDecimal stressLevel, String stressCategory,
+                               Boolean requiresCounseling) {
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.stresspayroll.dto;
+
+public record GeneratePayslipResponse(PayslipView payslip, StressEntryDetail stressEntry,
+                                      String psychologistContact) {
+}
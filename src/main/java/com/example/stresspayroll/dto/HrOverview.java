@@ -0,0 +1,4 @@
+package com.example.stresspayroll.dto;
+
+public record HrOverview(long totalEmployees, long criticalStress, long highStress, long requiresCounseling) {
+}
@@ -0,0 +1,9 @@
+package com.example.stresspayroll.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PayslipDownloadResponse(UUID payslipId, LocalDateTime downloadedAt, BigDecimal paperSavedGrams,
+                                      BigDecimal treesSaved, String message) {
+}
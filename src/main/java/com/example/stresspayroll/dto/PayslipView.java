@@ -0,0 +1,23 @@
+package com.example.stresspayroll.dto;
+
+import com.example.stresspayroll.model.Payslip;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payslip row as shown in payslip history and in the generate-payslip response.
+ */
+public record PayslipView(UUID id, Integer month, Integer year, BigDecimal baseSalary,
+                          BigDecimal overtimePay, BigDecimal deductions, BigDecimal netSalary,
+                          BigDecimal paperSavedGrams, BigDecimal treesSaved,
+                          LocalDateTime generatedAt, LocalDateTime downloadedAt) {
+
+    public static PayslipView from(Payslip payslip) {
+        return new PayslipView(payslip.getId(), payslip.getMonth(), payslip.getYear(), payslip.getBaseSalary(),
+            payslip.getOvertimePay(), payslip.getDeductions(), payslip.getNetSalary(),
+            payslip.getPaperSavedGrams(), payslip.getTreesSaved(),
+            payslip.getGeneratedAt(), payslip.getDownloadedAt());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.stresspayroll.dto;
+
+import com.example.stresspayroll.model.StressEntry;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Full stress assessment for a single month, including recommendations.
+ */
+public record StressEntryDetail(UUID id, Integer month, Integer year, BigDecimal overtimeHours,
+                                Integer workingDays, Integer daysPresent, Integer paidLeavesTaken,
+                                Integer unpaidLeavesTaken, BigDecimal stressLevel, String stressCategory,
+                                String stressFactors, String recommendations, Boolean requiresCounseling) {
+
+    public static StressEntryDetail from(StressEntry entry) {
+        return new StressEntryDetail(entry.getId(), entry.getMonth(), entry.getYear(), entry.getOvertimeHours(),
+            entry.getWorkingDays(), entry.getDaysPresent(), entry.getPaidLeavesTaken(),
+            entry.getUnpaidLeavesTaken(), entry.getStressLevel(), entry.getStressCategory(),
+            entry.getStressFactors(), entry.getRecommendations(), entry.getRequiresCounseling());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.stresspayroll.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Stress history row. Leaves out the long recommendations text, which only the
+ * detail view needs.
+ */
+public record StressEntrySummary(UUID id, Integer month, Integer year, BigDecimal overtimeHours,
+                                 BigDecimal stressLevel, String stressCategory, String stressFactors,
+                                 Boolean requiresCounseling) {
+}
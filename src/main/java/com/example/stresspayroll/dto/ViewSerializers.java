@@ -0,0 +1,89 @@
+package com.example.stresspayroll.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Hand-written serializers for the read models that appear once per history row.
+ * They write fields straight to the generator in a fixed order instead of going
+ * through Jackson's reflective bean introspection, and work unchanged for JSON and Smile.
+ */
+public final class ViewSerializers {
+
+    private ViewSerializers() {
+    }
+
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("ViewSerializers");
+        module.addSerializer(PayslipView.class, new PayslipViewSerializer());
+        module.addSerializer(StressEntrySummary.class, new StressEntrySummarySerializer());
+        return module;
+    }
+
+    static final class PayslipViewSerializer extends StdSerializer<PayslipView> {
+
+        PayslipViewSerializer() {
+            super(PayslipView.class);
+        }
+
+        @Override
+        public void serialize(PayslipView view, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("id", view.id().toString());
+            writeInteger(gen, "month", view.month());
+            writeInteger(gen, "year", view.year());
+            writeDecimal(gen, "baseSalary", view.baseSalary());
+            writeDecimal(gen, "overtimePay", view.overtimePay());
+            writeDecimal(gen, "deductions", view.deductions());
+            writeDecimal(gen, "netSalary", view.netSalary());
+            writeDecimal(gen, "paperSavedGrams", view.paperSavedGrams());
+            writeDecimal(gen, "treesSaved", view.treesSaved());
+            // Timestamps go through the configured JavaTimeModule so they match the entity output.
+            provider.defaultSerializeField("generatedAt", view.generatedAt(), gen);
+            provider.defaultSerializeField("downloadedAt", view.downloadedAt(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    static final class StressEntrySummarySerializer extends StdSerializer<StressEntrySummary> {
+
+        StressEntrySummarySerializer() {
+            super(StressEntrySummary.class);
+        }
+
+        @Override
+        public void serialize(StressEntrySummary view, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("id", view.id().toString());
+            writeInteger(gen, "month", view.month());
+            writeInteger(gen, "year", view.year());
+            writeDecimal(gen, "overtimeHours", view.overtimeHours());
+            writeDecimal(gen, "stressLevel", view.stressLevel());
+            gen.writeStringField("stressCategory", view.stressCategory());
+            gen.writeStringField("stressFactors", view.stressFactors());
+            gen.writeBooleanField("requiresCounseling", Boolean.TRUE.equals(view.requiresCounseling()));
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeInteger(JsonGenerator gen, String name, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNullField(name);
+        } else {
+            gen.writeNumberField(name, value);
+        }
+    }
+
+    private static void writeDecimal(JsonGenerator gen, String name, BigDecimal value) throws IOException {
+        if (value == null) {
+            gen.writeNullField(name);
+        } else {
+            gen.writeNumberField(name, value);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.stresspayroll.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "annual_earnings_summaries", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"employee_id", "year"})
+})
+public class AnnualEarningsSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(name = "payslip_count", nullable = false)
+    private Integer payslipCount = 0;
+
+    @Column(name = "total_base_salary", nullable = false)
+    private BigDecimal totalBaseSalary = BigDecimal.ZERO;
+
+    @Column(name = "total_overtime_pay", nullable = false)
+    private BigDecimal totalOvertimePay = BigDecimal.ZERO;
+
+    @Column(name = "total_deductions", nullable = false)
+    private BigDecimal totalDeductions = BigDecimal.ZERO;
+
+    @Column(name = "total_net_salary", nullable = false)
+    private BigDecimal totalNetSalary = BigDecimal.ZERO;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
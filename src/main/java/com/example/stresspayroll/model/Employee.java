@@ -1,5 +1,6 @@
 package com.example.stresspayroll.model;
 
+import com.example.stresspayroll.service.EmployeeSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,6 +14,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(EmployeeSearchIndexListener.class)
 @Table(name = "employees")
 public class Employee {
 
@@ -0,0 +1,49 @@
+package com.example.stresspayroll.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "leave_balances", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"employee_id", "year"})
+})
+public class LeaveBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Integer entitlement;
+
+    @Column(name = "paid_taken", nullable = false)
+    private Integer paidTaken = 0;
+
+    @Column(name = "unpaid_taken", nullable = false)
+    private Integer unpaidTaken = 0;
+
+    @Column(name = "paid_remaining", nullable = false)
+    private Integer paidRemaining;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
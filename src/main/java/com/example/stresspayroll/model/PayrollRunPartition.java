@@ -0,0 +1,63 @@
+package com.example.stresspayroll.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "payroll_run_partitions", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"run_id", "partition_index"})
+})
+public class PayrollRunPartition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(name = "run_id", nullable = false)
+    private UUID runId;
+
+    @Column(name = "partition_index", nullable = false)
+    private Integer partitionIndex;
+
+    @Column(name = "range_start", nullable = false)
+    private UUID rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private UUID rangeEnd;
+
+    @Column(nullable = false)
+    private String status = "PENDING";
+
+    @Column
+    private String owner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column
+    private Integer attempts = 0;
+
+    @Column(name = "processed_count")
+    private Integer processedCount = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
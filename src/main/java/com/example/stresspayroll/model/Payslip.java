@@ -12,7 +12,9 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "payslips")
+@Table(name = "payslips", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"employee_id", "month", "year"})
+})
 public class Payslip {
 
     @Id
@@ -0,0 +1,38 @@
+package com.example.stresspayroll.repository;
+
+import com.example.stresspayroll.model.AnnualEarningsSummary;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface AnnualEarningsSummaryRepository extends JpaRepository<AnnualEarningsSummary, UUID>,
+        EmployeeYearRowRepository<AnnualEarningsSummary> {
+    Optional<AnnualEarningsSummary> findByEmployeeIdAndYear(UUID employeeId, Integer year);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AnnualEarningsSummary s WHERE s.employeeId = :employeeId AND s.year = :year")
+    Optional<AnnualEarningsSummary> findForUpdate(@Param("employeeId") UUID employeeId, @Param("year") Integer year);
+
+    @Modifying
+    @Query(value = "INSERT INTO annual_earnings_summaries "
+        + "(id, employee_id, year, payslip_count, total_base_salary, total_overtime_pay, total_deductions, "
+        + "total_net_salary, updated_at) "
+        + "VALUES (CAST(:id AS uuid), CAST(:employeeId AS uuid), :year, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP) "
+        + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id, @Param("employeeId") String employeeId, @Param("year") Integer year);
+
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT s FROM AnnualEarningsSummary s WHERE s.year = :year ORDER BY s.employeeId")
+    Stream<AnnualEarningsSummary> streamByYear(@Param("year") Integer year);
+}
@@ -1,7 +1,12 @@
 package com.example.stresspayroll.repository;
 
 import com.example.stresspayroll.model.Employee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,4 +14,12 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
     Optional<Employee> findByUserId(UUID userId);
     Optional<Employee> findByEmployeeCode(String employeeCode);
     boolean existsByEmployeeCode(String employeeCode);
+    List<Employee> findByIsActiveTrueAndIdBetweenOrderByIdAsc(UUID start, UUID end, Pageable pageable);
+
+    /**
+     * Keyset page of employees changed after {@code (updatedAt, id)}, oldest change first.
+     */
+    @Query("SELECT e FROM Employee e WHERE e.updatedAt > :updatedAt OR (e.updatedAt = :updatedAt AND e.id > :id) "
+        + "ORDER BY e.updatedAt, e.id")
+    List<Employee> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") UUID id, Pageable pageable);
 }
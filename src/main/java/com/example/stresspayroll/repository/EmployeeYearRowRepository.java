@@ -0,0 +1,33 @@
+package com.example.stresspayroll.repository;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Running-total rows keyed by (employee_id, year) that are created on first use and then
+ * updated under a row lock. Implementations declare the native insert and the locking read.
+ */
+@NoRepositoryBean
+public interface EmployeeYearRowRepository<T> {
+
+    Optional<T> findForUpdate(UUID employeeId, Integer year);
+
+    /**
+     * Inserts the opening row with {@code INSERT ... ON CONFLICT DO NOTHING}, so a
+     * concurrent insert of the same (employee, year) is absorbed instead of failing.
+     * Ids are passed as text and cast in SQL so the binding is the same on every driver.
+     */
+    int insertIfAbsent(String id, String employeeId, Integer year);
+
+    /**
+     * Returns the row locked for update, creating it first if it does not exist. When two
+     * transactions race on a missing row, the second insert waits for the first to commit
+     * and then does nothing, and both end up locking and updating the same row in turn.
+     */
+    default T lockOrCreate(UUID employeeId, Integer year) {
+        insertIfAbsent(UUID.randomUUID().toString(), employeeId.toString(), year);
+        return findForUpdate(employeeId, year)
+            .orElseThrow(() -> new RuntimeException("No row for employee " + employeeId + " in " + year));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.stresspayroll.repository;
+
+import com.example.stresspayroll.model.LeaveBalance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, UUID>, EmployeeYearRowRepository<LeaveBalance> {
+    Optional<LeaveBalance> findByEmployeeIdAndYear(UUID employeeId, Integer year);
+    Page<LeaveBalance> findByYear(Integer year, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM LeaveBalance b WHERE b.employeeId = :employeeId AND b.year = :year")
+    Optional<LeaveBalance> findForUpdate(@Param("employeeId") UUID employeeId, @Param("year") Integer year);
+
+    /**
+     * Opens the year at the employee's full entitlement; inserts nothing if the row exists
+     * or the employee does not.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO leave_balances "
+        + "(id, employee_id, year, entitlement, paid_taken, unpaid_taken, paid_remaining, updated_at) "
+        + "SELECT CAST(:id AS uuid), e.id, :year, COALESCE(e.paid_leaves, 24), 0, 0, COALESCE(e.paid_leaves, 24), "
+        + "CURRENT_TIMESTAMP FROM employees e WHERE e.id = CAST(:employeeId AS uuid) "
+        + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id, @Param("employeeId") String employeeId, @Param("year") Integer year);
+}
@@ -0,0 +1,8 @@
+package com.example.stresspayroll.repository;
+
+import com.example.stresspayroll.model.LeaveLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.UUID;
+
+public interface LeaveLedgerRepository extends JpaRepository<LeaveLedgerEntry, UUID> {
+}
@@ -0,0 +1,55 @@
+package com.example.stresspayroll.repository;
+
+import com.example.stresspayroll.model.PayrollRunPartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PayrollRunPartitionRepository extends JpaRepository<PayrollRunPartition, UUID> {
+    List<PayrollRunPartition> findByRunIdOrderByPartitionIndex(UUID runId);
+    long countByRunIdAndStatus(UUID runId, String status);
+    long countByRunIdAndStatusIn(UUID runId, List<String> statuses);
+
+    /**
+     * Locks the next partition that is unclaimed or whose lease has expired. Rows already
+     * locked by another instance's claim are skipped instead of waited on.
+     */
+    @Query(value = "SELECT * FROM payroll_run_partitions p "
+        + "WHERE p.status = 'PENDING' OR (p.status = 'CLAIMED' AND p.lease_expires_at < :now) "
+        + "ORDER BY p.created_at, p.partition_index LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<PayrollRunPartition> lockNextClaimable(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE PayrollRunPartition p SET p.leaseExpiresAt = :leaseExpiresAt "
+        + "WHERE p.id = :id AND p.owner = :owner AND p.status = 'CLAIMED'")
+    int renewLease(@Param("id") UUID id, @Param("owner") String owner,
+                   @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Modifying
+    @Query("UPDATE PayrollRunPartition p SET p.status = 'DONE', p.processedCount = :processedCount, "
+        + "p.completedAt = :now, p.leaseExpiresAt = null "
+        + "WHERE p.id = :id AND p.owner = :owner AND p.status = 'CLAIMED'")
+    int markDone(@Param("id") UUID id, @Param("owner") String owner,
+                 @Param("processedCount") Integer processedCount, @Param("now") LocalDateTime now);
+
+    /**
+     * Records why an attempt failed and leaves the lease to expire, so the partition is
+     * retried by whichever instance polls next once the lease runs out.
+     */
+    @Modifying
+    @Query("UPDATE PayrollRunPartition p SET p.lastError = :error "
+        + "WHERE p.id = :id AND p.owner = :owner AND p.status = 'CLAIMED'")
+    int recordError(@Param("id") UUID id, @Param("owner") String owner, @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE PayrollRunPartition p SET p.status = 'FAILED', p.lastError = :error, "
+        + "p.completedAt = :now, p.leaseExpiresAt = null "
+        + "WHERE p.id = :id AND p.owner = :owner AND p.status = 'CLAIMED'")
+    int markFailed(@Param("id") UUID id, @Param("owner") String owner,
+                   @Param("error") String error, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,34 @@
+package com.example.stresspayroll.repository;
+
+import com.example.stresspayroll.model.PayrollRun;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, UUID> {
+    Optional<PayrollRun> findByMonthAndYear(Integer month, Integer year);
+
+    /**
+     * Locks the run row so instances finishing partitions of the same run decide
+     * completion one at a time, each seeing the others' committed partition updates.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM PayrollRun r WHERE r.id = :id")
+    Optional<PayrollRun> lockById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE PayrollRun r SET r.status = 'COMPLETED', r.completedAt = :now "
+        + "WHERE r.id = :id AND r.status = 'RUNNING'")
+    int markCompleted(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE PayrollRun r SET r.status = 'FAILED', r.completedAt = :now "
+        + "WHERE r.id = :id AND r.status = 'RUNNING'")
+    int markFailed(@Param("id") UUID id, @Param("now") LocalDateTime now);
+}
@@ -1,7 +1,11 @@
 package com.example.stresspayroll.repository;
 
+import com.example.stresspayroll.dto.PayslipView;
 import com.example.stresspayroll.model.Payslip;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,4 +13,13 @@ import java.util.UUID;
 public interface PayslipRepository extends JpaRepository<Payslip, UUID> {
     List<Payslip> findByEmployeeIdOrderByYearDescMonthDesc(UUID employeeId);
     Optional<Payslip> findByEmployeeIdAndMonthAndYear(UUID employeeId, Integer month, Integer year);
+    long countByEmployeeId(UUID employeeId);
+
+    @Query("SELECT new com.example.stresspayroll.dto.PayslipView(p.id, p.month, p.year, p.baseSalary, "
+        + "p.overtimePay, p.deductions, p.netSalary, p.paperSavedGrams, p.treesSaved, p.generatedAt, p.downloadedAt) "
+        + "FROM Payslip p WHERE p.employeeId = :employeeId ORDER BY p.year DESC, p.month DESC")
+    List<PayslipView> findViewsByEmployeeId(@Param("employeeId") UUID employeeId);
+
+    @Query("SELECT COALESCE(SUM(p.paperSavedGrams), 0) FROM Payslip p WHERE p.employeeId = :employeeId")
+    BigDecimal sumPaperSavedGramsByEmployeeId(@Param("employeeId") UUID employeeId);
 }
@@ -1,7 +1,10 @@
 package com.example.stresspayroll.repository;
 
+import com.example.stresspayroll.dto.StressEntrySummary;
 import com.example.stresspayroll.model.StressEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,4 +12,12 @@ import java.util.UUID;
 public interface StressEntryRepository extends JpaRepository<StressEntry, UUID> {
     List<StressEntry> findByEmployeeIdOrderByYearDescMonthDesc(UUID employeeId);
     Optional<StressEntry> findByEmployeeIdAndMonthAndYear(UUID employeeId, Integer month, Integer year);
+    Optional<StressEntry> findFirstByEmployeeIdOrderByYearDescMonthDesc(UUID employeeId);
+    long countByStressCategory(String stressCategory);
+    long countByRequiresCounselingTrue();
+
+    @Query("SELECT new com.example.stresspayroll.dto.StressEntrySummary(s.id, s.month, s.year, s.overtimeHours, "
+        + "s.stressLevel, s.stressCategory, s.stressFactors, s.requiresCounseling) "
+        + "FROM StressEntry s WHERE s.employeeId = :employeeId ORDER BY s.year DESC, s.month DESC")
+    List<StressEntrySummary> findSummariesByEmployeeId(@Param("employeeId") UUID employeeId);
 }
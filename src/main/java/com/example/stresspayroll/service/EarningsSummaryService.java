@@ -0,0 +1,80 @@
+package com.example.stresspayroll.service;
+
+import com.example.stresspayroll.model.AnnualEarningsSummary;
+import com.example.stresspayroll.model.Payslip;
+import com.example.stresspayroll.repository.AnnualEarningsSummaryRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Per-(employee, year) earnings totals kept current as payslips are generated, so
+ * year-end statements and the org-wide export never re-aggregate payslip rows.
+ */
+@Service
+public class EarningsSummaryService {
+
+    @Autowired
+    private AnnualEarningsSummaryRepository summaryRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public void recordPayslip(Payslip payslip) {
+        AnnualEarningsSummary summary = summaryRepository.lockOrCreate(payslip.getEmployeeId(), payslip.getYear());
+
+        summary.setPayslipCount(summary.getPayslipCount() + 1);
+        summary.setTotalBaseSalary(summary.getTotalBaseSalary().add(payslip.getBaseSalary()));
+        summary.setTotalOvertimePay(summary.getTotalOvertimePay().add(payslip.getOvertimePay()));
+        summary.setTotalDeductions(summary.getTotalDeductions().add(payslip.getDeductions()));
+        summary.setTotalNetSalary(summary.getTotalNetSalary().add(payslip.getNetSalary()));
+        summaryRepository.save(summary);
+    }
+
+    public AnnualEarningsSummary getSummary(UUID employeeId, Integer year) {
+        return summaryRepository.findByEmployeeIdAndYear(employeeId, year)
+            .orElseThrow(() -> new RuntimeException("No payslips found for " + year));
+    }
+
+    /**
+     * Writes every summary row for the year as CSV in one sequential, server-side
+     * cursor read. Rows are detached as they are written so memory stays flat.
+     */
+    @Transactional(readOnly = true)
+    public void exportYear(Integer year, Writer writer) throws IOException {
+        writer.write("employee_id,year,payslip_count,total_base_salary,total_overtime_pay,total_deductions,total_net_salary\n");
+        try (Stream<AnnualEarningsSummary> rows = summaryRepository.streamByYear(year)) {
+            Iterator<AnnualEarningsSummary> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                AnnualEarningsSummary row = iterator.next();
+                writer.write(row.getEmployeeId().toString());
+                writer.write(',');
+                writer.write(row.getYear().toString());
+                writer.write(',');
+                writer.write(row.getPayslipCount().toString());
+                writer.write(',');
+                writer.write(row.getTotalBaseSalary().toPlainString());
+                writer.write(',');
+                writer.write(row.getTotalOvertimePay().toPlainString());
+                writer.write(',');
+                writer.write(row.getTotalDeductions().toPlainString());
+                writer.write(',');
+                writer.write(row.getTotalNetSalary().toPlainString());
+                writer.write('\n');
+                entityManager.detach(row);
+            }
+        }
+        writer.flush();
+    }
+}
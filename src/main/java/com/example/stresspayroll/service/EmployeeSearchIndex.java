@@ -0,0 +1,463 @@
+package com.example.stresspayroll.service;
+
+import com.example.stresspayroll.model.Employee;
+import com.example.stresspayroll.repository.EmployeeRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over employee name, code, department and designation for HR
+ * typeahead. Each field keeps its tokens in a sorted map, so a prefix lookup is a range
+ * scan over the tokens starting with the typed text instead of a {@code LIKE} scan on Postgres.
+ * The index is built once the application is ready and kept current by
+ * {@link EmployeeSearchIndexListener} whenever an {@link Employee} is saved or deleted on
+ * this instance. Changes committed by other instances are picked up by {@link #resync()},
+ * which re-reads employees by {@code updated_at}. Hard deletes made on another instance
+ * are only seen after a restart; the application itself never hard-deletes employees.
+ */
+@Component
+public class EmployeeSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSearchIndex.class);
+
+    private static final int CODE_WEIGHT = 8;
+    private static final int NAME_WEIGHT = 6;
+    private static final int DEPARTMENT_WEIGHT = 3;
+    private static final int DESIGNATION_WEIGHT = 2;
+    private static final int REBUILD_PAGE_SIZE = 5000;
+
+    /** Deepest result a search will rank; callers clamp the page so offsets stay below it. */
+    public static final int MAX_RANKED_RESULTS = 1000;
+
+    /**
+     * Most matching employees collected per search, and most postings read to find them.
+     * A one-letter prefix or a large department would otherwise pull in a third of the
+     * workforce on every keystroke; postings are read best score first, so the caps only
+     * drop the weakest matches.
+     */
+    private static final int MAX_HITS = MAX_RANKED_RESULTS;
+    private static final int MAX_SCANNED_POSTINGS = 5_000;
+
+    /** Most posting maps a non-driving term is probed against before falling back to token matching. */
+    private static final int MAX_PROBES = 16;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    /**
+     * How far behind the newest indexed change each resync starts reading. updated_at is
+     * stamped before commit and by each instance's own clock, so a change can commit with
+     * a timestamp older than one already indexed; the overlap re-reads that window.
+     */
+    @Value("${app.search.resync-overlap-ms:60000}")
+    private long resyncOverlapMillis;
+
+    private final Field code = new Field(CODE_WEIGHT);
+    private final Field name = new Field(NAME_WEIGHT);
+    private final Field department = new Field(DEPARTMENT_WEIGHT);
+    private final Field designation = new Field(DESIGNATION_WEIGHT);
+    private final List<Field> fields = List.of(code, name, department, designation);
+
+    /** (field, exact or prefix) lookups in descending score order: an exact token match scores double. */
+    private final List<Tier> tiers = buildTiers(fields);
+
+    private final Map<UUID, IndexedEmployee> documents = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    /** Newest updated_at indexed so far; resyncs read from here minus the overlap. */
+    private volatile LocalDateTime syncedUpTo;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        // Startup warm-up may already have built the index before the application was ready.
+        if (!ready) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        int pageNumber = 0;
+        Page<Employee> page;
+        do {
+            page = employeeRepository.findAll(PageRequest.of(pageNumber++, REBUILD_PAGE_SIZE, Sort.by("id")));
+            page.forEach(this::index);
+        } while (page.hasNext());
+        ready = true;
+        log.info("Employee search index built with {} employees in {} ms",
+            documents.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Indexes employees changed since the last sync, including changes committed by other
+     * instances. Re-indexing an unchanged employee is harmless, so the overlap window only
+     * costs the few rows changed in it.
+     */
+    @Scheduled(fixedDelayString = "${app.search.resync-interval-ms:5000}")
+    public void resync() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime afterAt = syncedUpTo == null
+            ? LocalDateTime.of(1970, 1, 1, 0, 0)
+            : syncedUpTo.minusNanos(resyncOverlapMillis * 1_000_000);
+        UUID afterId = new UUID(0L, 0L);
+        List<Employee> changed;
+        do {
+            changed = employeeRepository.findChangedAfter(afterAt, afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            changed.forEach(this::index);
+            if (!changed.isEmpty()) {
+                Employee last = changed.get(changed.size() - 1);
+                afterAt = last.getUpdatedAt();
+                afterId = last.getId();
+            }
+        } while (changed.size() == REBUILD_PAGE_SIZE);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Indexes the employee unless a newer version is already indexed. The listener, the
+     * startup rebuild and the resync can deliver the same employee in any order; a page the
+     * rebuild read before a concurrent commit must not overwrite what the listener applied.
+     */
+    public synchronized void index(Employee employee) {
+        IndexedEmployee existing = documents.get(employee.getId());
+        LocalDateTime updatedAt = employee.getUpdatedAt();
+        if (existing != null && existing.updatedAt() != null && updatedAt != null
+                && updatedAt.isBefore(existing.updatedAt())) {
+            return;
+        }
+        if (updatedAt != null && (syncedUpTo == null || updatedAt.isAfter(syncedUpTo))) {
+            syncedUpTo = updatedAt;
+        }
+        remove(employee.getId());
+
+        List<List<String>> fieldTokens = List.of(tokenize(employee.getEmployeeCode()), tokenize(employee.getFullName()),
+            tokenize(employee.getDepartment()), tokenize(employee.getDesignation()));
+        Map<String, Integer> tokens = new HashMap<>();
+        for (int f = 0; f < fields.size(); f++) {
+            for (String token : fieldTokens.get(f)) {
+                tokens.merge(token, fields.get(f).weight(), Math::max);
+            }
+        }
+
+        // Parallel arrays rather than a map: candidates are checked against these tokens in the hot loop.
+        String[] tokenNames = tokens.keySet().toArray(new String[0]);
+        int[] tokenWeights = new int[tokenNames.length];
+        for (int i = 0; i < tokenNames.length; i++) {
+            tokenWeights[i] = tokens.get(tokenNames[i]);
+        }
+        IndexedEmployee document = new IndexedEmployee(employee.getId(), employee.getEmployeeCode(),
+            employee.getFullName(), employee.getDepartment(), employee.getDesignation(), employee.getBaseSalary(),
+            updatedAt, tokenNames, tokenWeights);
+        for (int f = 0; f < fields.size(); f++) {
+            for (String token : fieldTokens.get(f)) {
+                fields.get(f).postings().computeIfAbsent(token, t -> new ConcurrentHashMap<>()).put(document.id(), document);
+            }
+        }
+        documents.put(document.id(), document);
+    }
+
+    public synchronized void remove(UUID employeeId) {
+        IndexedEmployee existing = documents.remove(employeeId);
+        if (existing == null) {
+            return;
+        }
+        for (String token : existing.tokens()) {
+            for (Field field : fields) {
+                field.postings().computeIfPresent(token, (t, postings) -> {
+                    postings.remove(employeeId);
+                    return postings.isEmpty() ? null : postings;
+                });
+            }
+        }
+    }
+
+    /**
+     * Ranked, paginated prefix search. Every whitespace-separated term must prefix-match
+     * some token of the employee; an exact token match scores double, and matches on the
+     * code or name outrank matches on department or designation.
+     * <p>
+     * Postings are read only for the most selective term; each candidate is then looked up
+     * in the posting maps of the other terms. Collection stops after {@link #MAX_HITS} matches
+     * or {@link #MAX_SCANNED_POSTINGS} postings; the response then says {@code truncated}
+     * and {@code total} is a lower bound.
+     */
+    public Map<String, Object> search(String query, int page, int size) {
+        List<String> terms = tokenize(query);
+        List<Hit> hits = new ArrayList<>();
+        int driver = terms.size() > 1 ? mostSelective(terms) : 0;
+        boolean truncated = !terms.isEmpty() && collect(terms, driver, hits);
+
+        // Only the first (page + 1) * size hits need ordering; keep them in a bounded heap
+        // so short, unselective prefixes do not sort every candidate.
+        Comparator<Hit> ranking = Comparator.comparingInt(Hit::score).reversed().thenComparing(Hit::sortName);
+        int needed = (int) Math.min(Math.min((long) (page + 1) * size, MAX_RANKED_RESULTS), hits.size());
+        PriorityQueue<Hit> top = new PriorityQueue<>(Math.max(1, needed), ranking.reversed());
+        for (Hit hit : hits) {
+            if (top.size() < needed) {
+                top.offer(hit);
+            } else if (needed > 0 && ranking.compare(hit, top.peek()) < 0) {
+                // Most hits rank below the current cut-off; one comparison rejects them.
+                top.poll();
+                top.offer(hit);
+            }
+        }
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(ranking);
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (long i = (long) page * size; i < ranked.size(); i++) {
+            Hit hit = ranked.get((int) i);
+            IndexedEmployee document = hit.document();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("id", document.id());
+            result.put("employeeCode", document.employeeCode());
+            result.put("fullName", document.fullName());
+            result.put("department", document.department());
+            result.put("designation", document.designation());
+            result.put("baseSalary", document.baseSalary());
+            result.put("score", hit.score());
+            results.add(result);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("query", query);
+        response.put("total", hits.size());
+        response.put("truncated", truncated);
+        response.put("page", page);
+        response.put("size", size);
+        response.put("results", results);
+        return response;
+    }
+
+    /**
+     * Index of the term with the fewest postings, counted across every field. Each count
+     * stops once it reaches the best so far, or once it passes the scan budget: beyond that
+     * every term costs the same to walk, and a one-letter prefix spanning thousands of
+     * tokens is not worth counting to the end.
+     */
+    private int mostSelective(List<String> terms) {
+        int best = 0;
+        long bestCount = Long.MAX_VALUE;
+        for (int t = 0; t < terms.size(); t++) {
+            long count = 0;
+            String term = terms.get(t);
+            long limit = Math.min(bestCount, MAX_SCANNED_POSTINGS + 1L);
+            for (Field field : fields) {
+                for (Map<UUID, IndexedEmployee> postings : prefixRange(field, term, true)) {
+                    count += postings.size();
+                    if (count >= limit) {
+                        break;
+                    }
+                }
+                if (count >= limit) {
+                    break;
+                }
+            }
+            if (count < bestCount) {
+                best = t;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Walks the driving term's postings tier by tier, best score first, so the first time
+     * an employee is seen is its best match on that term. Each employee must also match
+     * every other term. Returns true when a cap cut the walk short.
+     */
+    private boolean collect(List<String> terms, int driver, List<Hit> hits) {
+        String term = terms.get(driver);
+        List<List<Probe>> probes = new ArrayList<>();
+        for (int t = 0; t < terms.size(); t++) {
+            probes.add(t == driver ? null : probes(terms.get(t)));
+        }
+        // An employee can sit in several tiers of the driving term, but only accepted hits need de-duplicating.
+        Set<UUID> accepted = new HashSet<>(MAX_HITS * 2);
+        int scanned = 0;
+        for (Tier tier : tiers) {
+            Collection<Map<UUID, IndexedEmployee>> lists = tier.exact()
+                ? singleton(tier.field().postings().get(term))
+                : prefixRange(tier.field(), term, false);
+            for (Map<UUID, IndexedEmployee> postings : lists) {
+                for (IndexedEmployee document : postings.values()) {
+                    if (++scanned > MAX_SCANNED_POSTINGS) {
+                        return true;
+                    }
+                    int otherTerms = otherTermsScore(document, terms, driver, probes);
+                    if (otherTerms < 0 || !accepted.add(document.id())) {
+                        continue;
+                    }
+                    hits.add(new Hit(document, tier.score() + otherTerms));
+                    if (hits.size() >= MAX_HITS) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Posting maps matching the term, best score first, or null when the term is a prefix
+     * of too many tokens to probe. Probing a candidate's id against a few posting maps
+     * touches far less memory than walking its tokens, which is what the intersection of
+     * two large terms spends its time on.
+     */
+    private List<Probe> probes(String term) {
+        List<Probe> probes = new ArrayList<>();
+        for (Field field : fields) {
+            Map<UUID, IndexedEmployee> exact = field.postings().get(term);
+            if (exact != null) {
+                probes.add(new Probe(exact, field.weight() * 2));
+            }
+        }
+        for (Field field : fields) {
+            for (Map<UUID, IndexedEmployee> postings : prefixRange(field, term, false)) {
+                if (probes.size() >= MAX_PROBES) {
+                    return null;
+                }
+                probes.add(new Probe(postings, field.weight()));
+            }
+        }
+        probes.sort(Comparator.comparingInt(Probe::score).reversed());
+        return probes;
+    }
+
+    /**
+     * Sum of the best match of every term but the driver, or -1 if one of them does not match.
+     */
+    private static int otherTermsScore(IndexedEmployee document, List<String> terms, int driver,
+                                       List<List<Probe>> probes) {
+        int total = 0;
+        for (int t = 0; t < terms.size(); t++) {
+            if (t == driver) {
+                continue;
+            }
+            List<Probe> termProbes = probes.get(t);
+            int score = termProbes != null ? probeScore(document.id(), termProbes) : termScore(document, terms.get(t));
+            if (score == 0) {
+                return -1;
+            }
+            total += score;
+        }
+        return total;
+    }
+
+    private static int probeScore(UUID id, List<Probe> probes) {
+        for (int i = 0; i < probes.size(); i++) {
+            if (probes.get(i).postings().containsKey(id)) {
+                return probes.get(i).score();
+            }
+        }
+        return 0;
+    }
+
+    private static int termScore(IndexedEmployee document, String term) {
+        String[] tokens = document.tokens();
+        int best = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            if (tokens[i].startsWith(term)) {
+                int bonus = tokens[i].length() == term.length() ? 2 : 1;
+                best = Math.max(best, document.weights()[i] * bonus);
+            }
+        }
+        return best;
+    }
+
+    private static Collection<Map<UUID, IndexedEmployee>> prefixRange(Field field, String term, boolean includeExact) {
+        return field.postings().subMap(term, includeExact, term + Character.MAX_VALUE, true).values();
+    }
+
+    private static Collection<Map<UUID, IndexedEmployee>> singleton(Map<UUID, IndexedEmployee> postings) {
+        return postings == null ? List.of() : List.of(postings);
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<Tier> buildTiers(List<Field> fields) {
+        List<Tier> tiers = new ArrayList<>();
+        for (Field field : fields) {
+            tiers.add(new Tier(field, true, field.weight() * 2));
+            tiers.add(new Tier(field, false, field.weight()));
+        }
+        tiers.sort(Comparator.comparingInt(Tier::score).reversed());
+        return List.copyOf(tiers);
+    }
+
+    /**
+     * token -> employees having that token in this field. Postings hold the documents
+     * themselves so the search loop never goes back to {@code documents} for a candidate.
+     */
+    private record Field(int weight, ConcurrentSkipListMap<String, Map<UUID, IndexedEmployee>> postings) {
+        Field(int weight) {
+            this(weight, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    private record Tier(Field field, boolean exact, int score) {
+    }
+
+    private record Probe(Map<UUID, IndexedEmployee> postings, int score) {
+    }
+
+    private record Hit(IndexedEmployee document, int score) {
+        String sortName() {
+            return document.fullName() == null ? "" : document.fullName();
+        }
+    }
+
+    /** {@code weights[i]} is the weight of the best field {@code tokens[i]} appears in. */
+    private record IndexedEmployee(UUID id, String employeeCode, String fullName, String department,
+                                   String designation, BigDecimal baseSalary, LocalDateTime updatedAt,
+                                   String[] tokens, int[] weights) {
+    }
+}
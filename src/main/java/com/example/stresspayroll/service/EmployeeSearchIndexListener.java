@@ -0,0 +1,48 @@
+package com.example.stresspayroll.service;
+
+import com.example.stresspayroll.model.Employee;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that keeps {@link EmployeeSearchIndex} in sync with saved employees.
+ * Changes are applied after the surrounding transaction commits so a rolled-back
+ * signup never shows up in search results.
+ */
+@Component
+public class EmployeeSearchIndexListener {
+
+    @Autowired
+    private EmployeeSearchIndex searchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Employee employee) {
+        afterCommit(() -> searchIndex.index(employee));
+    }
+
+    @PostRemove
+    public void onRemove(Employee employee) {
+        afterCommit(() -> searchIndex.remove(employee.getId()));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
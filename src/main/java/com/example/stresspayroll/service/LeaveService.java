@@ -0,0 +1,101 @@
+package com.example.stresspayroll.service;
+
+import com.example.stresspayroll.model.Employee;
+import com.example.stresspayroll.model.LeaveBalance;
+import com.example.stresspayroll.model.LeaveLedgerEntry;
+import com.example.stresspayroll.model.StressEntry;
+import com.example.stresspayroll.repository.EmployeeRepository;
+import com.example.stresspayroll.repository.LeaveBalanceRepository;
+import com.example.stresspayroll.repository.LeaveLedgerRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Leave ledger with per-(employee, year) running balances. Each payslip generation
+ * appends debit rows to {@code leave_ledger} and adjusts the matching
+ * {@code leave_balances} row in the same transaction, so balance checks and year-end
+ * reports read a single row instead of summing a year of stress entries.
+ */
+@Service
+public class LeaveService {
+
+    @Autowired
+    private LeaveLedgerRepository leaveLedgerRepository;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Transactional
+    public void recordUsage(Employee employee, StressEntry stressEntry) {
+        int paid = stressEntry.getPaidLeavesTaken() == null ? 0 : stressEntry.getPaidLeavesTaken();
+        int unpaid = stressEntry.getUnpaidLeavesTaken() == null ? 0 : stressEntry.getUnpaidLeavesTaken();
+        if (paid == 0 && unpaid == 0) {
+            return;
+        }
+
+        if (paid > 0) {
+            leaveLedgerRepository.save(debit(stressEntry, "PAID", paid));
+        }
+        if (unpaid > 0) {
+            leaveLedgerRepository.save(debit(stressEntry, "UNPAID", unpaid));
+        }
+
+        // Two payslips for the same employee and year can be generated concurrently (the
+        // employee and the payroll-run worker, or two months submitted together).
+        LeaveBalance balance = leaveBalanceRepository.lockOrCreate(employee.getId(), stressEntry.getYear());
+        balance.setPaidTaken(balance.getPaidTaken() + paid);
+        balance.setUnpaidTaken(balance.getUnpaidTaken() + unpaid);
+        balance.setPaidRemaining(balance.getEntitlement() - balance.getPaidTaken());
+        leaveBalanceRepository.save(balance);
+    }
+
+    /**
+     * Returns the employee's balance for the year; a year with no leave taken yet
+     * reports the full entitlement without creating a row.
+     */
+    public LeaveBalance getBalance(UUID employeeId, Integer year) {
+        return leaveBalanceRepository.findByEmployeeIdAndYear(employeeId, year)
+            .orElseGet(() -> {
+                Employee employee = employeeRepository.findById(employeeId)
+                    .orElseThrow(() -> new RuntimeException("Employee not found"));
+                return openingBalance(employee, year);
+            });
+    }
+
+    public Page<LeaveBalance> getYearReport(Integer year, int page, int size) {
+        return leaveBalanceRepository.findByYear(year, PageRequest.of(page, size, Sort.by("employeeId")));
+    }
+
+    private static LeaveLedgerEntry debit(StressEntry stressEntry, String leaveType, int days) {
+        LeaveLedgerEntry entry = new LeaveLedgerEntry();
+        entry.setEmployeeId(stressEntry.getEmployeeId());
+        entry.setStressEntryId(stressEntry.getId());
+        entry.setMonth(stressEntry.getMonth());
+        entry.setYear(stressEntry.getYear());
+        entry.setLeaveType(leaveType);
+        entry.setDays(days);
+        return entry;
+    }
+
+    private static LeaveBalance openingBalance(Employee employee, Integer year) {
+        int entitlement = employee.getPaidLeaves() == null ? 24 : employee.getPaidLeaves();
+        LeaveBalance balance = new LeaveBalance();
+        balance.setEmployeeId(employee.getId());
+        balance.setYear(year);
+        balance.setEntitlement(entitlement);
+        balance.setPaidTaken(0);
+        balance.setUnpaidTaken(0);
+        balance.setPaidRemaining(entitlement);
+        return balance;
+    }
+}
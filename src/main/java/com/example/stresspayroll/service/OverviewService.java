@@ -0,0 +1,127 @@
+package com.example.stresspayroll.service;
+
+import com.example.stresspayroll.dto.EmployeeOverview;
+import com.example.stresspayroll.dto.HrOverview;
+import com.example.stresspayroll.model.Employee;
+import com.example.stresspayroll.model.StressEntry;
+import com.example.stresspayroll.repository.EmployeeRepository;
+import com.example.stresspayroll.repository.PayslipRepository;
+import com.example.stresspayroll.repository.StressEntryRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Builds the single-request bootstrap payloads for the HR and employee dashboards.
+ * The queries behind each payload are independent, so they are fanned out on the
+ * bounded overview executor and the response waits only for the slowest one.
+ * While the HR counters are being read they are refreshed in the background ahead of
+ * their TTL, so dashboard requests, including the first ones after a restart, do not
+ * pay for the count queries. Once nobody has read them for a few TTLs the refresh stops
+ * and the next read loads them again.
+ */
+@Service
+public class OverviewService {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private StressEntryRepository stressEntryRepository;
+
+    @Autowired
+    @Qualifier("overviewExecutor")
+    private TaskExecutor overviewExecutor;
+
+    @Value("${app.overview.hr-cache-ttl-ms:15000}")
+    private long hrCacheTtlMillis;
+
+    /** TTLs without a read after which the background refresh stops. */
+    private static final int HR_REFRESH_IDLE_TTLS = 4;
+
+    private volatile CachedCounters hrCounters;
+
+    private volatile long hrLastReadAt;
+
+    public HrOverview getHrOverview() {
+        CachedCounters cached = hrCounters;
+        long now = System.currentTimeMillis();
+        hrLastReadAt = now;
+        if (cached != null && now - cached.loadedAt() < hrCacheTtlMillis) {
+            return cached.overview();
+        }
+        return loadHrOverview();
+    }
+
+    @Scheduled(fixedDelayString = "${app.overview.hr-refresh-ms:10000}")
+    public void refreshHrOverview() {
+        // Only keep the counters warm while something (the startup warm-up or a request) is reading them.
+        if (hrCounters != null && System.currentTimeMillis() - hrLastReadAt < hrCacheTtlMillis * HR_REFRESH_IDLE_TTLS) {
+            loadHrOverview();
+        }
+    }
+
+    private HrOverview loadHrOverview() {
+        long now = System.currentTimeMillis();
+        CompletableFuture<Long> totalEmployees = supply(() -> employeeRepository.count());
+        CompletableFuture<Long> criticalStress = supply(() -> stressEntryRepository.countByStressCategory("CRITICAL"));
+        CompletableFuture<Long> highStress = supply(() -> stressEntryRepository.countByStressCategory("HIGH"));
+        CompletableFuture<Long> requiresCounseling = supply(() -> stressEntryRepository.countByRequiresCounselingTrue());
+
+        HrOverview overview = new HrOverview(join(totalEmployees), join(criticalStress),
+            join(highStress), join(requiresCounseling));
+        hrCounters = new CachedCounters(overview, now);
+        return overview;
+    }
+
+    public EmployeeOverview getEmployeeOverview(UUID employeeId) {
+        CompletableFuture<Optional<Employee>> employee = supply(() -> employeeRepository.findById(employeeId));
+        CompletableFuture<Long> totalPayslips = supply(() -> payslipRepository.countByEmployeeId(employeeId));
+        CompletableFuture<BigDecimal> paperSaved = supply(() -> payslipRepository.sumPaperSavedGramsByEmployeeId(employeeId));
+        CompletableFuture<Optional<StressEntry>> latestStress =
+            supply(() -> stressEntryRepository.findFirstByEmployeeIdOrderByYearDescMonthDesc(employeeId));
+
+        Employee emp = join(employee).orElseThrow(() -> new RuntimeException("Employee not found"));
+        EmployeeOverview.Profile profile = new EmployeeOverview.Profile(emp.getId(), emp.getFullName(),
+            emp.getEmployeeCode(), emp.getDepartment(), emp.getDesignation());
+        EmployeeOverview.LatestStress latest = join(latestStress)
+            .map(entry -> new EmployeeOverview.LatestStress(entry.getMonth(), entry.getYear(),
+                entry.getStressLevel(), entry.getStressCategory(), entry.getRequiresCounseling()))
+            .orElse(null);
+
+        return new EmployeeOverview(profile, join(totalPayslips), join(paperSaved), latest);
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, overviewExecutor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private record CachedCounters(HrOverview overview, long loadedAt) {
+    }
+}
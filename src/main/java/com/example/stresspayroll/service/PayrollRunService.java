@@ -0,0 +1,196 @@
+package com.example.stresspayroll.service;
+
+import com.example.stresspayroll.model.Employee;
+import com.example.stresspayroll.model.PayrollRun;
+import com.example.stresspayroll.model.PayrollRunPartition;
+import com.example.stresspayroll.repository.EmployeeRepository;
+import com.example.stresspayroll.repository.PayrollRunPartitionRepository;
+import com.example.stresspayroll.repository.PayrollRunRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Coordinates month-end payroll runs across application instances.
+ * A run is split into contiguous employee-id ranges stored in {@code payroll_run_partitions};
+ * instances claim one partition at a time under a lease, and an expired lease makes the
+ * partition claimable again by any other instance. A partition that has used up
+ * {@code app.payroll.run.max-attempts} is marked FAILED instead of being handed out again.
+ */
+@Service
+public class PayrollRunService {
+
+    private static final BigInteger UUID_SPACE = BigInteger.ONE.shiftLeft(128);
+    private static final BigInteger LONG_MASK = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    @Autowired
+    private PayrollRunRepository payrollRunRepository;
+
+    @Autowired
+    private PayrollRunPartitionRepository partitionRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Value("${app.payroll.run.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${app.payroll.run.default-partitions:16}")
+    private int defaultPartitions;
+
+    @Value("${app.payroll.run.max-attempts:3}")
+    private int maxAttempts;
+
+    @Transactional
+    public PayrollRun createRun(Integer month, Integer year, Integer workingDays, Integer partitions) {
+        if (payrollRunRepository.findByMonthAndYear(month, year).isPresent()) {
+            throw new RuntimeException("Payroll run already exists for " + month + "/" + year);
+        }
+        int count = partitions != null && partitions > 0 ? partitions : defaultPartitions;
+
+        PayrollRun run = new PayrollRun();
+        run.setMonth(month);
+        run.setYear(year);
+        run.setWorkingDays(workingDays);
+        run.setPartitionCount(count);
+        run = payrollRunRepository.save(run);
+
+        // Split the unsigned 128-bit id space evenly; Postgres orders uuid values bytewise,
+        // which is the same order as the unsigned integer they encode.
+        for (int i = 0; i < count; i++) {
+            BigInteger start = UUID_SPACE.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(count));
+            BigInteger next = UUID_SPACE.multiply(BigInteger.valueOf(i + 1L)).divide(BigInteger.valueOf(count));
+
+            PayrollRunPartition partition = new PayrollRunPartition();
+            partition.setRunId(run.getId());
+            partition.setPartitionIndex(i);
+            partition.setRangeStart(toUuid(start));
+            partition.setRangeEnd(toUuid(next.subtract(BigInteger.ONE)));
+            partitionRepository.save(partition);
+        }
+        return run;
+    }
+
+    @Transactional
+    public Optional<PayrollRunPartition> claimNextPartition(String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<PayrollRunPartition> claimable;
+        while ((claimable = partitionRepository.lockNextClaimable(now)).isPresent()) {
+            PayrollRunPartition partition = claimable.get();
+            if (partition.getAttempts() >= maxAttempts) {
+                // The last holder crashed or let its lease lapse on the final attempt.
+                partition.setStatus("FAILED");
+                partition.setLeaseExpiresAt(null);
+                partition.setCompletedAt(now);
+                if (partition.getLastError() == null) {
+                    partition.setLastError("Lease expired on attempt " + partition.getAttempts());
+                }
+                partitionRepository.saveAndFlush(partition);
+                settleRun(partition.getRunId(), now);
+                continue;
+            }
+            partition.setStatus("CLAIMED");
+            partition.setOwner(owner);
+            partition.setLeaseExpiresAt(now.plusSeconds(leaseSeconds));
+            partition.setAttempts(partition.getAttempts() + 1);
+            partitionRepository.save(partition);
+            return claimable;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Extends the lease on a claimed partition. Returns false when this instance no
+     * longer owns it, in which case the caller must stop working on the partition.
+     */
+    @Transactional
+    public boolean renewLease(UUID partitionId, String owner) {
+        return partitionRepository.renewLease(partitionId, owner, LocalDateTime.now().plusSeconds(leaseSeconds)) == 1;
+    }
+
+    @Transactional
+    public boolean completePartition(PayrollRunPartition partition, String owner, int processedCount) {
+        LocalDateTime now = LocalDateTime.now();
+        if (partitionRepository.markDone(partition.getId(), owner, processedCount, now) != 1) {
+            return false;
+        }
+        settleRun(partition.getRunId(), now);
+        return true;
+    }
+
+    /**
+     * Records a failed attempt on a partition this instance holds. Once the attempts are
+     * used up the partition is FAILED; otherwise it is retried after its lease expires.
+     */
+    @Transactional
+    public void failAttempt(PayrollRunPartition partition, String owner, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        if (partition.getAttempts() < maxAttempts) {
+            partitionRepository.recordError(partition.getId(), owner, error);
+        } else if (partitionRepository.markFailed(partition.getId(), owner, error, now) == 1) {
+            settleRun(partition.getRunId(), now);
+        }
+    }
+
+    /**
+     * Closes the run once no partition is pending or claimed: COMPLETED when every
+     * partition is DONE, FAILED otherwise. Without the run lock, two partitions finishing
+     * together each miss the other's uncommitted update and the run is never closed.
+     * Callers have already updated their partition row, and claims only take partition
+     * locks with SKIP LOCKED, so this cannot deadlock.
+     */
+    private void settleRun(UUID runId, LocalDateTime now) {
+        payrollRunRepository.lockById(runId);
+        if (partitionRepository.countByRunIdAndStatusIn(runId, List.of("PENDING", "CLAIMED")) > 0) {
+            return;
+        }
+        if (partitionRepository.countByRunIdAndStatus(runId, "FAILED") == 0) {
+            payrollRunRepository.markCompleted(runId, now);
+        } else {
+            payrollRunRepository.markFailed(runId, now);
+        }
+    }
+
+    public PayrollRun getRun(UUID runId) {
+        return payrollRunRepository.findById(runId)
+            .orElseThrow(() -> new RuntimeException("Payroll run not found"));
+    }
+
+    public List<PayrollRunPartition> getPartitions(UUID runId) {
+        return partitionRepository.findByRunIdOrderByPartitionIndex(runId);
+    }
+
+    /**
+     * Returns the next page of active employees in {@code [from, to]}, ordered by id.
+     */
+    public List<Employee> findEmployeesInRange(UUID from, UUID to, int limit) {
+        return employeeRepository.findByIsActiveTrueAndIdBetweenOrderByIdAsc(from, to, PageRequest.of(0, limit));
+    }
+
+    /**
+     * The id immediately after {@code id} in uuid order, or null if {@code id} is the last one.
+     */
+    public static UUID successor(UUID id) {
+        BigInteger next = toBigInteger(id).add(BigInteger.ONE);
+        return next.equals(UUID_SPACE) ? null : toUuid(next);
+    }
+
+    private static UUID toUuid(BigInteger value) {
+        return new UUID(value.shiftRight(64).longValue(), value.and(LONG_MASK).longValue());
+    }
+
+    private static BigInteger toBigInteger(UUID id) {
+        BigInteger msb = new BigInteger(Long.toUnsignedString(id.getMostSignificantBits()));
+        BigInteger lsb = new BigInteger(Long.toUnsignedString(id.getLeastSignificantBits()));
+        return msb.shiftLeft(64).or(lsb);
+    }
+}
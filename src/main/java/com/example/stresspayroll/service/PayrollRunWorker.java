@@ -0,0 +1,135 @@
+package com.example.stresspayroll.service;
+
+import com.example.stresspayroll.model.Employee;
+import com.example.stresspayroll.model.PayrollRun;
+import com.example.stresspayroll.model.PayrollRunPartition;
+import com.example.stresspayroll.repository.PayslipRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Polls for claimable payroll-run partitions and generates the missing payslips in them.
+ * Every instance runs one worker; partitions are handed out by {@link PayrollRunService}
+ * so adding instances adds throughput. Payslips are created one employee per transaction
+ * and the (employee, month, year) unique constraint keeps a takeover after an expired
+ * lease from creating duplicates. A partition that throws is reported back as a failed
+ * attempt instead of being left claimed.
+ */
+@Component
+@ConditionalOnProperty(name = "app.payroll.run.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class PayrollRunWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollRunWorker.class);
+
+    @Autowired
+    private PayrollRunService payrollRunService;
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Value("${app.payroll.run.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.payroll.run.instance-id:}")
+    private String instanceId;
+
+    @Scheduled(fixedDelayString = "${app.payroll.run.poll-interval-ms:5000}")
+    public void poll() {
+        String owner = getInstanceId();
+        Optional<PayrollRunPartition> claimed;
+        while ((claimed = payrollRunService.claimNextPartition(owner)).isPresent()) {
+            PayrollRunPartition partition = claimed.get();
+            try {
+                process(partition);
+            } catch (Exception e) {
+                log.error("Attempt {} on partition {} of payroll run {} failed",
+                    partition.getAttempts(), partition.getPartitionIndex(), partition.getRunId(), e);
+                payrollRunService.failAttempt(partition, owner, String.valueOf(e.getMessage()));
+            }
+        }
+    }
+
+    private void process(PayrollRunPartition partition) {
+        PayrollRun run = payrollRunService.getRun(partition.getRunId());
+        String owner = getInstanceId();
+        log.info("Claimed partition {} of payroll run {}/{} (attempt {})",
+            partition.getPartitionIndex(), run.getMonth(), run.getYear(), partition.getAttempts());
+
+        int processed = 0;
+        UUID cursor = partition.getRangeStart();
+        while (cursor != null) {
+            List<Employee> batch = payrollRunService.findEmployeesInRange(cursor, partition.getRangeEnd(), batchSize);
+            for (Employee employee : batch) {
+                if (generateIfMissing(run, employee)) {
+                    processed++;
+                }
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+            if (!payrollRunService.renewLease(partition.getId(), owner)) {
+                log.warn("Lost lease on partition {} of payroll run {}/{}; another instance will finish it",
+                    partition.getPartitionIndex(), run.getMonth(), run.getYear());
+                return;
+            }
+            cursor = PayrollRunService.successor(batch.get(batch.size() - 1).getId());
+        }
+
+        if (payrollRunService.completePartition(partition, owner, processed)) {
+            log.info("Completed partition {} of payroll run {}/{}: {} payslips generated",
+                partition.getPartitionIndex(), run.getMonth(), run.getYear(), processed);
+        }
+    }
+
+    /**
+     * Generates a payslip at full attendance for an employee who has not submitted one
+     * for the run's month. Returns false when the payslip already exists. A constraint
+     * violation only counts as "already exists" if the payslip is really there; any other
+     * violation fails the partition attempt.
+     */
+    private boolean generateIfMissing(PayrollRun run, Employee employee) {
+        if (payslipRepository.findByEmployeeIdAndMonthAndYear(employee.getId(), run.getMonth(), run.getYear()).isPresent()) {
+            return false;
+        }
+        try {
+            payrollService.generatePayslip(employee.getId(), run.getMonth(), run.getYear(),
+                BigDecimal.ZERO, run.getWorkingDays(), run.getWorkingDays(), 0, 0);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Created concurrently by the employee or by a previous lease holder.
+            if (payslipRepository.findByEmployeeIdAndMonthAndYear(employee.getId(), run.getMonth(), run.getYear()).isPresent()) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private String getInstanceId() {
+        if (instanceId == null || instanceId.isEmpty()) {
+            String host;
+            try {
+                host = InetAddress.getLocalHost().getHostName();
+            } catch (Exception e) {
+                host = "unknown";
+            }
+            instanceId = host + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        return instanceId;
+    }
+}
@@ -28,6 +28,12 @@ public class PayrollService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private EarningsSummaryService earningsSummaryService;
+
     @Value("${app.psychologist.contact}")
     private String psychologistContact;
 
@@ -40,6 +46,24 @@ public class PayrollService {
         Employee employee = employeeRepository.findById(employeeId)
             .orElseThrow(() -> new RuntimeException("Employee not found"));
 
+        StressEntry stressEntry = assessStress(employeeId, month, year, overtimeHours, workingDays,
+            daysPresent, paidLeavesTaken, unpaidLeavesTaken);
+        stressEntry = stressEntryRepository.save(stressEntry);
+        leaveService.recordUsage(employee, stressEntry);
+
+        Payslip payslip = calculatePayslip(employee, stressEntry);
+        payslip = payslipRepository.save(payslip);
+        earningsSummaryService.recordPayslip(payslip);
+        return payslip;
+    }
+
+    /**
+     * Builds the stress assessment for a month without saving it.
+     */
+    public StressEntry assessStress(UUID employeeId, Integer month, Integer year,
+                                    BigDecimal overtimeHours, Integer workingDays,
+                                    Integer daysPresent, Integer paidLeavesTaken,
+                                    Integer unpaidLeavesTaken) {
         BigDecimal stressLevel = calculateStressLevel(overtimeHours, workingDays, daysPresent);
         String stressCategory = categorizeStress(stressLevel);
         String stressFactors = analyzeStressFactors(overtimeHours, unpaidLeavesTaken);
@@ -60,12 +84,17 @@ public class PayrollService {
         stressEntry.setStressFactors(stressFactors);
         stressEntry.setRecommendations(recommendations);
         stressEntry.setRequiresCounseling(requiresCounseling);
+        return stressEntry;
+    }
 
-        stressEntry = stressEntryRepository.save(stressEntry);
-
-        BigDecimal overtimePay = overtimeHours.multiply(new BigDecimal("200"));
-        BigDecimal perDaySalary = employee.getBaseSalary().divide(new BigDecimal(workingDays), 2, RoundingMode.HALF_UP);
-        BigDecimal unpaidLeaveDeduction = perDaySalary.multiply(new BigDecimal(unpaidLeavesTaken));
+    /**
+     * Computes the payslip for an assessed month without saving it.
+     */
+    public Payslip calculatePayslip(Employee employee, StressEntry stressEntry) {
+        BigDecimal overtimePay = stressEntry.getOvertimeHours().multiply(new BigDecimal("200"));
+        BigDecimal perDaySalary = employee.getBaseSalary()
+            .divide(new BigDecimal(stressEntry.getWorkingDays()), 2, RoundingMode.HALF_UP);
+        BigDecimal unpaidLeaveDeduction = perDaySalary.multiply(new BigDecimal(stressEntry.getUnpaidLeavesTaken()));
 
         BigDecimal netSalary = employee.getBaseSalary()
             .add(overtimePay)
@@ -75,18 +104,17 @@ public class PayrollService {
         BigDecimal treesSaved = paperSavedGrams.divide(new BigDecimal("8333.33"), 6, RoundingMode.HALF_UP);
 
         Payslip payslip = new Payslip();
-        payslip.setEmployeeId(employeeId);
+        payslip.setEmployeeId(employee.getId());
         payslip.setStressEntryId(stressEntry.getId());
-        payslip.setMonth(month);
-        payslip.setYear(year);
+        payslip.setMonth(stressEntry.getMonth());
+        payslip.setYear(stressEntry.getYear());
         payslip.setBaseSalary(employee.getBaseSalary());
         payslip.setOvertimePay(overtimePay);
         payslip.setDeductions(unpaidLeaveDeduction);
         payslip.setNetSalary(netSalary);
         payslip.setPaperSavedGrams(paperSavedGrams);
         payslip.setTreesSaved(treesSaved);
-
-        return payslipRepository.save(payslip);
+        return payslip;
     }
 
     private BigDecimal calculateStressLevel(BigDecimal overtimeHours, Integer workingDays, Integer daysPresent) {
@@ -34,23 +34,17 @@ function showSection(sectionName) {
 
 async function loadDashboardData() {
     try {
-        const payslipsRes = await fetch('/api/employee/' + currentUser.employeeId + '/payslips');
-        const payslips = await payslipsRes.json();
-        
-        const stressRes = await fetch('/api/employee/' + currentUser.employeeId + '/stress-entries');
-        const stressEntries = await stressRes.json();
+        const response = await fetch('/api/employee/' + currentUser.employeeId + '/overview');
+        const overview = await response.json();
 
-        document.getElementById('totalPayslips').textContent = payslips.length;
+        document.getElementById('totalPayslips').textContent = overview.totalPayslips || 0;
         
-        if (stressEntries.length > 0) {
-            const latest = stressEntries[0];
+        if (overview.latestStress) {
+            const latest = overview.latestStress;
             document.getElementById('currentStress').textContent = latest.stressLevel + ' (' + latest.stressCategory + ')';
         }
 
-        let totalPaper = 0;
-        for (let i = 0; i < payslips.length; i++) {
-            totalPaper += parseFloat(payslips[i].paperSavedGrams || 0);
-        }
+        const totalPaper = parseFloat(overview.paperSavedGrams || 0);
         document.getElementById('paperSaved').textContent = totalPaper.toFixed(2) + 'g';
     } catch (error) {
         console.error('Error loading dashboard data:', error);
@@ -178,6 +172,8 @@ async function downloadPayslip(payslipId) {
         if (response.ok) {
             alert(result.message);
             loadDashboardData();
+        } else {
+            alert('Error: ' + (result.error || 'Failed to download payslip'));
         }
     } catch (error) {
         console.error('Error downloading payslip:', error);
@@ -243,7 +239,8 @@ async function loadStressData() {
             }
         });
         
-        const latest = entries[entries.length - 1];
+        const latestRes = await fetch('/api/employee/' + currentUser.employeeId + '/stress-entries/' + entries[entries.length - 1].id);
+        const latest = await latestRes.json();
         const analysis = document.getElementById('stressAnalysis');
         
         const badge = getStressBadge(latest.stressCategory);
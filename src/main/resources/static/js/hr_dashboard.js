@@ -32,57 +32,90 @@ function showSection(sectionName) {
 
 async function loadOverviewData() {
     try {
-        const empRes = await fetch('/api/hr/employees');
-        const employees = await empRes.json();
-        
-        const analyticsRes = await fetch('/api/hr/stress-analytics');
-        const analytics = await analyticsRes.json();
+        const response = await fetch('/api/hr/overview');
+        const overview = await response.json();
 
-        document.getElementById('totalEmployees').textContent = employees.length;
-        document.getElementById('criticalStress').textContent = analytics.criticalStress || 0;
-        document.getElementById('highStress').textContent = analytics.highStress || 0;
-        document.getElementById('needCounseling').textContent = analytics.requiresCounseling || 0;
+        document.getElementById('totalEmployees').textContent = overview.totalEmployees || 0;
+        document.getElementById('criticalStress').textContent = overview.criticalStress || 0;
+        document.getElementById('highStress').textContent = overview.highStress || 0;
+        document.getElementById('needCounseling').textContent = overview.requiresCounseling || 0;
     } catch (error) {
         console.error('Error loading overview data:', error);
     }
 }
 
+let searchTimer = null;
+// Bumped by every employee list request; a response is rendered only if no newer request was made.
+let employeeListRequest = 0;
+
+function onEmployeeSearch(query) {
+    clearTimeout(searchTimer);
+    searchTimer = setTimeout(function() {
+        if (query.trim() === '') {
+            loadEmployees();
+        } else {
+            searchEmployees(query);
+        }
+    }, 150);
+}
+
+async function searchEmployees(query) {
+    const request = ++employeeListRequest;
+    try {
+        const response = await fetch('/api/hr/employees/search?q=' + encodeURIComponent(query) + '&size=50');
+        const result = await response.json();
+        if (request !== employeeListRequest) {
+            return;
+        }
+        renderEmployees(result.results || []);
+    } catch (error) {
+        console.error('Error searching employees:', error);
+    }
+}
+
 async function loadEmployees() {
+    const request = ++employeeListRequest;
     try {
         const response = await fetch('/api/hr/employees');
         const employees = await response.json();
-        
-        const container = document.getElementById('employeesList');
-        
-        if (employees.length === 0) {
-            container.innerHTML = '<p style="padding: 2rem; text-align: center;">No employees found.</p>';
+        if (request !== employeeListRequest) {
             return;
         }
-        
-        let html = '<table><thead><tr>';
-        html += '<th>Employee Code</th><th>Name</th><th>Department</th>';
-        html += '<th>Designation</th><th>Base Salary</th><th>Action</th>';
-        html += '</tr></thead><tbody>';
-        
-        for (let i = 0; i < employees.length; i++) {
-            const emp = employees[i];
-            html += '<tr>';
-            html += '<td>' + emp.employeeCode + '</td>';
-            html += '<td>' + emp.fullName + '</td>';
-            html += '<td>' + emp.department + '</td>';
-            html += '<td>' + emp.designation + '</td>';
-            html += '<td>Rs ' + emp.baseSalary + '</td>';
-            html += '<td><button class="btn btn-primary btn-sm" onclick="viewEmployeeDetail(\'' + emp.id + '\')">View Details</button></td>';
-            html += '</tr>';
-        }
-        
-        html += '</tbody></table>';
-        container.innerHTML = html;
+        renderEmployees(employees);
     } catch (error) {
         console.error('Error loading employees:', error);
     }
 }
 
+function renderEmployees(employees) {
+    const container = document.getElementById('employeesList');
+    
+    if (employees.length === 0) {
+        container.innerHTML = '<p style="padding: 2rem; text-align: center;">No employees found.</p>';
+        return;
+    }
+    
+    let html = '<table><thead><tr>';
+    html += '<th>Employee Code</th><th>Name</th><th>Department</th>';
+    html += '<th>Designation</th><th>Base Salary</th><th>Action</th>';
+    html += '</tr></thead><tbody>';
+    
+    for (let i = 0; i < employees.length; i++) {
+        const emp = employees[i];
+        html += '<tr>';
+        html += '<td>' + emp.employeeCode + '</td>';
+        html += '<td>' + emp.fullName + '</td>';
+        html += '<td>' + emp.department + '</td>';
+        html += '<td>' + emp.designation + '</td>';
+        html += '<td>Rs ' + emp.baseSalary + '</td>';
+        html += '<td><button class="btn btn-primary btn-sm" onclick="viewEmployeeDetail(\'' + emp.id + '\')">View Details</button></td>';
+        html += '</tr>';
+    }
+    
+    html += '</tbody></table>';
+    container.innerHTML = html;
+}
+
 async function viewEmployeeDetail(employeeId) {
     try {
         const response = await fetch('/api/hr/employee/' + employeeId);
@@ -0,0 +1,375 @@
+package com.example.stresspayroll.loadtest;
+
+import com.example.stresspayroll.loadtest.SyntheticWorkforceGenerator.Workforce;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeds a synthetic workforce and then drives the real controllers over HTTP with a
+ * weighted, concurrent request mix. Latencies are recorded per endpoint after the
+ * warm-up window and written as a JSON report with throughput and p50/p95/p99.
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestRunner implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    @Autowired
+    private SyntheticWorkforceGenerator generator;
+
+    @Autowired
+    private SerializationBenchmark serializationBenchmark;
+
+    @Autowired
+    private SearchIndexBenchmark searchIndexBenchmark;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${app.loadtest.employees:500}")
+    private int employeeCount;
+
+    @Value("${app.loadtest.months:12}")
+    private int months;
+
+    @Value("${app.loadtest.seed:42}")
+    private long seed;
+
+    @Value("${app.loadtest.mix:signup:5,login:20,generate-payslip:15,download:25,hr-analytics:25,hr-overview:10}")
+    private String mix;
+
+    @Value("${app.loadtest.concurrency:16}")
+    private int concurrency;
+
+    @Value("${app.loadtest.warmup-seconds:10}")
+    private int warmupSeconds;
+
+    @Value("${app.loadtest.duration-seconds:60}")
+    private int durationSeconds;
+
+    @Value("${app.loadtest.serialization-benchmark:true}")
+    private boolean runSerializationBenchmark;
+
+    @Value("${app.loadtest.search-benchmark:true}")
+    private boolean runSearchBenchmark;
+
+    @Value("${app.loadtest.search-benchmark-employees:100000}")
+    private int searchBenchmarkEmployees;
+
+    @Value("${app.loadtest.report:target/loadtest-report.json}")
+    private String reportPath;
+
+    @Value("${app.loadtest.exit-on-completion:true}")
+    private boolean exitOnCompletion;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private final AtomicLong signupCounter = new AtomicLong();
+    private final AtomicLong payslipSlotCounter = new AtomicLong();
+
+    private String baseUrl;
+    private Workforce workforce;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        int exitCode = 0;
+        try {
+            baseUrl = "http://localhost:" + environment.getProperty("local.server.port");
+
+            long seedStart = System.nanoTime();
+            log.info("Seeding {} employees with {} months of history (seed {})", employeeCount, months, seed);
+            workforce = generator.generate(employeeCount, months, seed);
+            long seedMillis = (System.nanoTime() - seedStart) / 1_000_000;
+            log.info("Seeding finished in {} ms", seedMillis);
+
+            Map<String, Object> serialization = null;
+            if (runSerializationBenchmark && !workforce.employees().isEmpty()) {
+                serialization = serializationBenchmark.run(workforce.employees().get(0).getId());
+                log.info("Serialization benchmark: {}", serialization);
+            }
+
+            Map<String, Object> search = null;
+            if (runSearchBenchmark) {
+                search = searchIndexBenchmark.run(searchBenchmarkEmployees, seed);
+                log.info("Search index benchmark: {}", search);
+            }
+
+            Map<String, Object> report = run(seedMillis);
+            if (serialization != null) {
+                report.put("serialization", serialization);
+            }
+            if (search != null) {
+                report.put("search", search);
+            }
+            File file = new File(reportPath);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, report);
+            log.info("Load-test report written to {}", file.getAbsolutePath());
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            exitCode = 1;
+        }
+
+        if (exitOnCompletion) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> code));
+        }
+    }
+
+    private Map<String, Object> run(long seedMillis) throws Exception {
+        List<String> names = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (!isKnownEndpoint(kv[0])) {
+                throw new IllegalArgumentException("Unknown load-test endpoint: " + kv[0]);
+            }
+            names.add(kv[0]);
+            weights.add(Integer.parseInt(kv[1]));
+        }
+        int totalWeight = weights.stream().mapToInt(Integer::intValue).sum();
+
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long runEnd = warmupEnd + Duration.ofSeconds(durationSeconds).toNanos();
+
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        List<Future<Map<String, Samples>>> workers = new ArrayList<>();
+        for (int w = 0; w < concurrency; w++) {
+            Random random = new Random(seed + 1 + w);
+            workers.add(pool.submit(() -> {
+                Map<String, Samples> samples = new LinkedHashMap<>();
+                long now;
+                while ((now = System.nanoTime()) < runEnd) {
+                    String name = pickEndpoint(random, names, weights, totalWeight);
+                    long start = System.nanoTime();
+                    boolean ok = execute(name, random);
+                    long elapsed = System.nanoTime() - start;
+                    if (now >= warmupEnd) {
+                        samples.computeIfAbsent(name, k -> new Samples()).add(elapsed, ok);
+                    }
+                }
+                return samples;
+            }));
+        }
+
+        Map<String, Samples> merged = new LinkedHashMap<>();
+        for (String name : names) {
+            merged.put(name, new Samples());
+        }
+        for (Future<Map<String, Samples>> worker : workers) {
+            worker.get().forEach((name, samples) -> merged.get(name).addAll(samples));
+        }
+        pool.shutdown();
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("employees", employeeCount);
+        config.put("months", months);
+        config.put("seed", seed);
+        config.put("mix", mix);
+        config.put("concurrency", concurrency);
+        config.put("warmupSeconds", warmupSeconds);
+        config.put("durationSeconds", durationSeconds);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long totalRequests = 0;
+        for (Map.Entry<String, Samples> entry : merged.entrySet()) {
+            Samples samples = entry.getValue();
+            totalRequests += samples.size;
+            endpoints.put(entry.getKey(), samples.summarize(durationSeconds));
+            log.info("{}: {}", entry.getKey(), endpoints.get(entry.getKey()));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("config", config);
+        report.put("seedingMillis", seedMillis);
+        report.put("totalRequests", totalRequests);
+        report.put("throughputPerSecond", (double) totalRequests / durationSeconds);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static boolean isKnownEndpoint(String name) {
+        return Arrays.asList("signup", "login", "generate-payslip", "download", "hr-analytics", "hr-overview")
+            .contains(name);
+    }
+
+    private static String pickEndpoint(Random random, List<String> names, List<Integer> weights, int totalWeight) {
+        int r = random.nextInt(totalWeight);
+        for (int i = 0; i < names.size(); i++) {
+            r -= weights.get(i);
+            if (r < 0) {
+                return names.get(i);
+            }
+        }
+        return names.get(names.size() - 1);
+    }
+
+    private boolean execute(String name, Random random) {
+        HttpRequest request;
+        switch (name) {
+            case "signup": {
+                long n = signupCounter.getAndIncrement();
+                request = post("/api/auth/signup", Map.of(
+                    "email", "signup" + n + "@loadtest.local",
+                    "password", SyntheticWorkforceGenerator.PASSWORD,
+                    "fullName", "Load Test " + n));
+                break;
+            }
+            case "login": {
+                List<String> emails = workforce.emails();
+                request = post("/api/auth/login", Map.of(
+                    "email", emails.get(random.nextInt(emails.size())),
+                    "password", SyntheticWorkforceGenerator.PASSWORD));
+                break;
+            }
+            case "generate-payslip": {
+                // Every request takes a fresh (employee, month) slot past the seeded history.
+                long slot = payslipSlotCounter.getAndIncrement();
+                int employees = workforce.employees().size();
+                UUID employeeId = workforce.employees().get((int) (slot % employees)).getId();
+                YearMonth period = workforce.firstFreePeriod().plusMonths(slot / employees);
+                request = post("/api/employee/" + employeeId + "/generate-payslip", Map.of(
+                    "month", period.getMonthValue(),
+                    "year", period.getYear(),
+                    "overtimeHours", random.nextInt(25),
+                    "workingDays", 22,
+                    "daysPresent", 20 + random.nextInt(3),
+                    "paidLeavesTaken", random.nextInt(2),
+                    "unpaidLeavesTaken", 0));
+                break;
+            }
+            case "download": {
+                List<UUID> payslipIds = workforce.payslipIds();
+                request = HttpRequest.newBuilder(uri("/api/employee/payslip/"
+                        + payslipIds.get(random.nextInt(payslipIds.size())) + "/download"))
+                    .PUT(HttpRequest.BodyPublishers.noBody())
+                    .build();
+                break;
+            }
+            case "hr-analytics":
+                request = HttpRequest.newBuilder(uri("/api/hr/stress-analytics")).GET().build();
+                break;
+            case "hr-overview":
+                request = HttpRequest.newBuilder(uri("/api/hr/overview")).GET().build();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown load-test endpoint: " + name);
+        }
+
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            return response.statusCode() < 400;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private HttpRequest post(String path, Map<String, Object> body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    /**
+     * Latencies recorded by one worker for one endpoint; merged once the run is over.
+     */
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int size;
+        private int errors;
+
+        void add(long elapsedNanos, boolean ok) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = elapsedNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+            }
+            System.arraycopy(other.nanos, 0, nanos, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        Map<String, Object> summarize(int durationSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", size);
+            summary.put("errors", errors);
+            summary.put("throughputPerSecond", (double) size / durationSeconds);
+            summary.put("p50Ms", percentileMillis(sorted, 0.50));
+            summary.put("p95Ms", percentileMillis(sorted, 0.95));
+            summary.put("p99Ms", percentileMillis(sorted, 0.99));
+            summary.put("maxMs", size == 0 ? 0.0 : sorted[size - 1] / 1_000_000.0);
+            return summary;
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(rank, 0)] / 1_000_000.0;
+        }
+    }
+}
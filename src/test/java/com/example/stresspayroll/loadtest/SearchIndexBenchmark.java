@@ -0,0 +1,86 @@
+package com.example.stresspayroll.loadtest;
+
+import com.example.stresspayroll.service.EmployeeSearchIndex;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Times typeahead searches against a standalone {@link EmployeeSearchIndex} filled with
+ * synthetic employees, without the database or HTTP in the way. The query set covers
+ * the expensive shapes: one- and two-letter prefixes, a department holding a third of
+ * the workforce, and multi-term queries. Reports p50/p99 per query against the 1 ms target.
+ */
+@Component
+@Profile("loadtest")
+public class SearchIndexBenchmark {
+
+    private static final long TARGET_MICROS = 1_000;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+    private static final List<String> QUERIES = List.of(
+        "a", "ar", "aarav", "sharma", "eng", "engineering", "senior eng", "lt0", "lt01234", "priya menon", "sales lead");
+
+    @Autowired
+    private SyntheticWorkforceGenerator generator;
+
+    public Map<String, Object> run(int employeeCount, long seed) {
+        Random random = new Random(seed);
+        EmployeeSearchIndex index = new EmployeeSearchIndex();
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < employeeCount; i++) {
+            index.index(generator.newEmployee(random, i));
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        // Warm every query shape before timing any of them, so the JIT is not still compiling
+        // the multi-term paths while the single-term queries are being measured.
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            for (String query : QUERIES) {
+                index.search(query, 0, 20);
+            }
+        }
+
+        Map<String, Object> queries = new LinkedHashMap<>();
+        boolean withinTarget = true;
+        for (String query : QUERIES) {
+            long[] nanos = new long[MEASURED_ITERATIONS];
+            Map<String, Object> last = null;
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                long start = System.nanoTime();
+                last = index.search(query, 0, 20);
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+
+            double p99Micros = percentileMicros(nanos, 0.99);
+            withinTarget &= p99Micros < TARGET_MICROS;
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("hits", last.get("total"));
+            result.put("truncated", last.get("truncated"));
+            result.put("p50Micros", percentileMicros(nanos, 0.50));
+            result.put("p99Micros", p99Micros);
+            queries.put(query, result);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("employees", index.size());
+        report.put("buildMillis", buildMillis);
+        report.put("targetMicros", TARGET_MICROS);
+        report.put("withinTarget", withinTarget);
+        report.put("queries", queries);
+        return report;
+    }
+
+    private static double percentileMicros(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(rank, 0)] / 1_000.0;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.stresspayroll.loadtest;
+
+import com.example.stresspayroll.repository.PayslipRepository;
+import com.example.stresspayroll.repository.StressEntryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares what the history endpoints put on the wire before and after the read
+ * models: the JPA entities through reflective Jackson against the view records
+ * through the pre-built serializers, as plain JSON, gzipped JSON and Smile.
+ * Reports bytes per response and serialization CPU per response.
+ */
+@Component
+@Profile("loadtest")
+public class SerializationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private StressEntryRepository stressEntryRepository;
+
+    public Map<String, Object> run(UUID employeeId) throws IOException {
+        ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+
+        Map<String, Object> payslips = new LinkedHashMap<>();
+        payslips.put("entity-json", measure(payslipRepository.findByEmployeeIdOrderByYearDescMonthDesc(employeeId),
+            objectMapper, false));
+        List<?> payslipViews = payslipRepository.findViewsByEmployeeId(employeeId);
+        payslips.put("view-json", measure(payslipViews, objectMapper, false));
+        payslips.put("view-json-gzip", measure(payslipViews, objectMapper, true));
+        payslips.put("view-smile", measure(payslipViews, smileMapper, false));
+
+        Map<String, Object> stressEntries = new LinkedHashMap<>();
+        stressEntries.put("entity-json", measure(stressEntryRepository.findByEmployeeIdOrderByYearDescMonthDesc(employeeId),
+            objectMapper, false));
+        List<?> stressViews = stressEntryRepository.findSummariesByEmployeeId(employeeId);
+        stressEntries.put("view-json", measure(stressViews, objectMapper, false));
+        stressEntries.put("view-json-gzip", measure(stressViews, objectMapper, true));
+        stressEntries.put("view-smile", measure(stressViews, smileMapper, false));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rowsPerResponse", payslipViews.size());
+        report.put("payslipHistory", payslips);
+        report.put("stressHistory", stressEntries);
+        return report;
+    }
+
+    private static Map<String, Object> measure(Object body, ObjectMapper mapper, boolean gzip) throws IOException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int bytes = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            bytes = encode(body, mapper, gzip);
+        }
+
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long wallStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            encode(body, mapper, gzip);
+        }
+        long wallNanos = System.nanoTime() - wallStart;
+        long cpuNanos = threads.getCurrentThreadCpuTime() - cpuStart;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("bytesPerResponse", bytes);
+        result.put("cpuMicrosPerResponse", cpuNanos / 1_000.0 / MEASURED_ITERATIONS);
+        result.put("wallMicrosPerResponse", wallNanos / 1_000.0 / MEASURED_ITERATIONS);
+        return result;
+    }
+
+    private static int encode(Object body, ObjectMapper mapper, boolean gzip) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+        if (gzip) {
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                mapper.writeValue(out, body);
+            }
+        } else {
+            mapper.writeValue(buffer, body);
+        }
+        return buffer.size();
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.stresspayroll.loadtest;
+
+import com.example.stresspayroll.model.Employee;
+import com.example.stresspayroll.model.Payslip;
+import com.example.stresspayroll.model.User;
+import com.example.stresspayroll.repository.EmployeeRepository;
+import com.example.stresspayroll.repository.UserRepository;
+import com.example.stresspayroll.service.PayrollService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds the load-test database with a reproducible synthetic workforce.
+ * Employees are spread over weighted departments with log-normal salaries, and
+ * every month of history is pushed through {@link PayrollService#generatePayslip}
+ * so stress entries and payslips are produced by the real calculation path.
+ */
+@Component
+@Profile("loadtest")
+public class SyntheticWorkforceGenerator {
+
+    public static final String PASSWORD = "loadtest-password";
+    public static final String HR_EMAIL = "hr@loadtest.local";
+
+    private static final String[] DEPARTMENTS = {
+        "Engineering", "Operations", "Sales", "Support", "Finance", "Human Resources"
+    };
+    private static final double[] DEPARTMENT_WEIGHTS = { 0.35, 0.20, 0.18, 0.15, 0.07, 0.05 };
+    private static final double[] DEPARTMENT_OVERTIME_MEAN = { 9.0, 12.0, 7.0, 10.0, 5.0, 3.0 };
+    private static final String[] DESIGNATIONS = { "Associate", "Engineer", "Senior Engineer", "Lead", "Manager" };
+    private static final double[] DESIGNATION_WEIGHTS = { 0.30, 0.30, 0.20, 0.12, 0.08 };
+    private static final double[] DESIGNATION_SALARY_MEDIAN = { 35000, 55000, 80000, 110000, 140000 };
+    private static final String[] FIRST_NAMES = {
+        "Aarav", "Diya", "Ishaan", "Meera", "Rohan", "Ananya", "Kabir", "Priya", "Vikram", "Sara",
+        "Arjun", "Neha", "Karan", "Pooja", "Rahul", "Sneha", "Aditya", "Kavya", "Nikhil", "Riya"
+    };
+    private static final String[] LAST_NAMES = {
+        "Sharma", "Iyer", "Patel", "Reddy", "Nair", "Gupta", "Singh", "Das", "Menon", "Joshi",
+        "Kulkarni", "Bose", "Khan", "Rao", "Chopra", "Verma", "Pillai", "Mehta", "Sen", "Kapoor"
+    };
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    public Workforce generate(int employeeCount, int months, long seed) {
+        Random random = new Random(seed);
+        // One BCrypt hash shared by every synthetic account keeps seeding fast.
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+
+        User hr = new User();
+        hr.setEmail(HR_EMAIL);
+        hr.setPassword(passwordHash);
+        hr.setRole("HR");
+        userRepository.save(hr);
+
+        YearMonth current = YearMonth.now();
+        List<Employee> employees = new ArrayList<>(employeeCount);
+        List<String> emails = new ArrayList<>(employeeCount);
+        List<UUID> payslipIds = new ArrayList<>(employeeCount * months);
+
+        for (int i = 0; i < employeeCount; i++) {
+            String email = "employee" + i + "@loadtest.local";
+
+            User user = new User();
+            user.setEmail(email);
+            user.setPassword(passwordHash);
+            user.setRole("EMPLOYEE");
+            user = userRepository.save(user);
+
+            int department = pick(random, DEPARTMENT_WEIGHTS);
+            Employee employee = newEmployee(random, i, department, current.minusMonths(months));
+            employee.setUserId(user.getId());
+            employee = employeeRepository.save(employee);
+
+            employees.add(employee);
+            emails.add(email);
+
+            for (int m = months; m >= 1; m--) {
+                YearMonth period = current.minusMonths(m);
+                payslipIds.add(generateMonth(random, employee, period, DEPARTMENT_OVERTIME_MEAN[department]).getId());
+            }
+        }
+
+        return new Workforce(employees, emails, payslipIds, current);
+    }
+
+    /**
+     * An unsaved employee with the same name, department, designation and salary
+     * distributions as the seeded workforce, for benchmarks that do not need the database.
+     */
+    public Employee newEmployee(Random random, int index) {
+        Employee employee = newEmployee(random, index, pick(random, DEPARTMENT_WEIGHTS), YearMonth.now());
+        employee.setId(UUID.nameUUIDFromBytes(("loadtest-employee-" + index).getBytes()));
+        return employee;
+    }
+
+    private Employee newEmployee(Random random, int index, int department, YearMonth joinedBefore) {
+        int designation = pick(random, DESIGNATION_WEIGHTS);
+
+        Employee employee = new Employee();
+        employee.setFullName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+            + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        employee.setEmployeeCode(String.format("LT%06d", index));
+        employee.setDepartment(DEPARTMENTS[department]);
+        employee.setDesignation(DESIGNATIONS[designation]);
+        employee.setBaseSalary(logNormal(random, DESIGNATION_SALARY_MEDIAN[designation], 0.18)
+            .setScale(2, RoundingMode.HALF_UP));
+        employee.setPaidLeaves(24);
+        employee.setJoinDate(joinedBefore.minusMonths(random.nextInt(60)).atDay(1));
+        employee.setIsActive(true);
+        return employee;
+    }
+
+    private Payslip generateMonth(Random random, Employee employee, YearMonth period, double overtimeMean) {
+        int workingDays = 20 + random.nextInt(4);
+        // Absences are rare events; most months have none, a few have several.
+        int absences = Math.min(poisson(random, 1.2), workingDays - 10);
+        int unpaid = absences > 0 && random.nextDouble() < 0.25 ? 1 + random.nextInt(absences) : 0;
+        int paid = absences - unpaid;
+        int daysPresent = workingDays - absences;
+
+        // Overtime is right-skewed: clamp a gaussian around the department mean at zero.
+        double overtime = Math.max(0, overtimeMean + random.nextGaussian() * overtimeMean * 0.8);
+        BigDecimal overtimeHours = BigDecimal.valueOf(overtime).setScale(2, RoundingMode.HALF_UP);
+
+        return payrollService.generatePayslip(employee.getId(), period.getMonthValue(), period.getYear(),
+            overtimeHours, workingDays, daysPresent, paid, unpaid);
+    }
+
+    private static int pick(Random random, double[] weights) {
+        double r = random.nextDouble();
+        double cumulative = 0;
+        for (int i = 0; i < weights.length; i++) {
+            cumulative += weights[i];
+            if (r < cumulative) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static BigDecimal logNormal(Random random, double median, double sigma) {
+        return BigDecimal.valueOf(median * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    private static int poisson(Random random, double lambda) {
+        double limit = Math.exp(-lambda);
+        double product = random.nextDouble();
+        int k = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * What the load driver needs to know about the seeded data. {@code firstFreePeriod}
+     * is the first month with no seeded payslips; load-phase payslips start there.
+     */
+    public record Workforce(List<Employee> employees, List<String> emails,
+                            List<UUID> payslipIds, YearMonth firstFreePeriod) {
+    }
+}
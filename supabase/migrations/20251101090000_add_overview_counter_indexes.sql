@@ -0,0 +1,9 @@
+/*
+  # Indexes for dashboard overview counters
+
+  The HR overview endpoint counts stress entries by category and by the
+  counseling flag instead of loading every row, so both predicates get an index.
+*/
+
+CREATE INDEX IF NOT EXISTS idx_stress_entries_category ON stress_entries(stress_category);
+CREATE INDEX IF NOT EXISTS idx_stress_entries_counseling ON stress_entries(requires_counseling) WHERE requires_counseling;
@@ -0,0 +1,58 @@
+/*
+  # Partitioned payroll runs
+
+  A month-end payroll run is split into employee-id ranges so several application
+  instances can generate payslips in parallel.
+
+  ## New Tables
+
+  ### 1. `payroll_runs` - One row per month-end run
+    - `month`, `year` (integer, unique together) - Payroll period
+    - `working_days` (integer) - Working days used for employees without submitted attendance
+    - `partition_count` (integer) - Number of employee-id ranges
+    - `status` (text) - RUNNING or COMPLETED
+
+  ### 2. `payroll_run_partitions` - Claimable employee-id ranges
+    - `range_start`, `range_end` (uuid) - Inclusive employee id range
+    - `status` (text) - PENDING, CLAIMED or DONE
+    - `owner` (text) - Instance currently holding the lease
+    - `lease_expires_at` (timestamp) - After this, any instance may take the partition over
+
+  ## Constraints
+  - Payslips become unique per (employee_id, month, year) so a partition taken over
+    after an expired lease can never create a second payslip.
+*/
+
+CREATE TABLE IF NOT EXISTS payroll_runs (
+  id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+  month integer NOT NULL CHECK (month >= 1 AND month <= 12),
+  year integer NOT NULL CHECK (year >= 2020 AND year <= 2100),
+  working_days integer NOT NULL CHECK (working_days > 0),
+  partition_count integer NOT NULL CHECK (partition_count > 0),
+  status text NOT NULL DEFAULT 'RUNNING' CHECK (status IN ('RUNNING', 'COMPLETED')),
+  created_at timestamp DEFAULT now(),
+  completed_at timestamp,
+  UNIQUE(month, year)
+);
+
+CREATE TABLE IF NOT EXISTS payroll_run_partitions (
+  id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+  run_id uuid NOT NULL REFERENCES payroll_runs(id) ON DELETE CASCADE,
+  partition_index integer NOT NULL,
+  range_start uuid NOT NULL,
+  range_end uuid NOT NULL,
+  status text NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'CLAIMED', 'DONE')),
+  owner text,
+  lease_expires_at timestamp,
+  attempts integer DEFAULT 0,
+  processed_count integer DEFAULT 0,
+  created_at timestamp DEFAULT now(),
+  completed_at timestamp,
+  UNIQUE(run_id, partition_index)
+);
+
+CREATE INDEX IF NOT EXISTS idx_payroll_run_partitions_claimable
+  ON payroll_run_partitions(created_at, partition_index) WHERE status <> 'DONE';
+
+ALTER TABLE payslips
+  ADD CONSTRAINT payslips_employee_month_year_key UNIQUE (employee_id, month, year);
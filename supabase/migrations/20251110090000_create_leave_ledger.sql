@@ -0,0 +1,72 @@
+/*
+  # Leave ledger and running balances
+
+  ## New Tables
+
+  ### 1. `leave_ledger` - One debit row per leave type per generated payslip
+    - `employee_id` (uuid, foreign key) - Links to employees table
+    - `stress_entry_id` (uuid, foreign key) - Entry the leave was reported on
+    - `month`, `year` (integer) - Period the leave was taken in
+    - `leave_type` (text) - PAID or UNPAID
+    - `days` (integer) - Days debited
+
+  ### 2. `leave_balances` - Running balance per employee and year
+    - `entitlement` (integer) - Annual paid leave quota (employees.paid_leaves)
+    - `paid_taken`, `unpaid_taken` (integer) - Days taken so far this year
+    - `paid_remaining` (integer) - entitlement - paid_taken
+    - Unique constraint on (employee_id, year)
+
+  ## Backfill
+  Existing stress entries are replayed into the ledger and summed into balances.
+  Both inserts skip rows that already exist, so the migration can be re-run safely.
+*/
+
+CREATE TABLE IF NOT EXISTS leave_ledger (
+  id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+  employee_id uuid NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+  stress_entry_id uuid REFERENCES stress_entries(id) ON DELETE SET NULL,
+  month integer NOT NULL CHECK (month >= 1 AND month <= 12),
+  year integer NOT NULL CHECK (year >= 2020 AND year <= 2100),
+  leave_type text NOT NULL CHECK (leave_type IN ('PAID', 'UNPAID')),
+  days integer NOT NULL CHECK (days > 0),
+  created_at timestamp DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS leave_balances (
+  id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+  employee_id uuid NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+  year integer NOT NULL CHECK (year >= 2020 AND year <= 2100),
+  entitlement integer NOT NULL,
+  paid_taken integer NOT NULL DEFAULT 0,
+  unpaid_taken integer NOT NULL DEFAULT 0,
+  paid_remaining integer NOT NULL,
+  updated_at timestamp DEFAULT now(),
+  UNIQUE(employee_id, year)
+);
+
+CREATE INDEX IF NOT EXISTS idx_leave_ledger_employee_year ON leave_ledger(employee_id, year);
+CREATE INDEX IF NOT EXISTS idx_leave_balances_year ON leave_balances(year, employee_id);
+
+INSERT INTO leave_ledger (employee_id, stress_entry_id, month, year, leave_type, days)
+SELECT l.employee_id, l.stress_entry_id, l.month, l.year, l.leave_type, l.days
+FROM (
+  SELECT employee_id, id AS stress_entry_id, month, year, 'PAID' AS leave_type, paid_leaves_taken AS days
+  FROM stress_entries WHERE paid_leaves_taken > 0
+  UNION ALL
+  SELECT employee_id, id, month, year, 'UNPAID', unpaid_leaves_taken
+  FROM stress_entries WHERE unpaid_leaves_taken > 0
+) l
+WHERE NOT EXISTS (
+  SELECT 1 FROM leave_ledger x
+  WHERE x.stress_entry_id = l.stress_entry_id AND x.leave_type = l.leave_type
+);
+
+INSERT INTO leave_balances (employee_id, year, entitlement, paid_taken, unpaid_taken, paid_remaining)
+SELECT s.employee_id, s.year, COALESCE(e.paid_leaves, 24),
+       SUM(COALESCE(s.paid_leaves_taken, 0)), SUM(COALESCE(s.unpaid_leaves_taken, 0)),
+       COALESCE(e.paid_leaves, 24) - SUM(COALESCE(s.paid_leaves_taken, 0))
+FROM stress_entries s
+JOIN employees e ON e.id = s.employee_id
+GROUP BY s.employee_id, s.year, e.paid_leaves
+HAVING SUM(COALESCE(s.paid_leaves_taken, 0)) + SUM(COALESCE(s.unpaid_leaves_taken, 0)) > 0
+ON CONFLICT (employee_id, year) DO NOTHING;
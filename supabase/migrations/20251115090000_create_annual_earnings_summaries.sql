@@ -0,0 +1,42 @@
+/*
+  # Annual earnings summaries
+
+  ## New Tables
+
+  ### `annual_earnings_summaries` - Yearly totals per employee
+    - `employee_id` (uuid, foreign key) - Links to employees table
+    - `year` (integer) - Calendar year of the payslips
+    - `payslip_count` (integer) - Payslips folded into the totals
+    - `total_base_salary`, `total_overtime_pay`, `total_deductions`, `total_net_salary` (decimal)
+    - Unique constraint on (employee_id, year)
+
+  Rows are updated inside the payslip generation transaction. The (year, employee_id)
+  index lets the org-wide export read one year in employee order sequentially.
+
+  ## Backfill
+  Totals are seeded from the existing payslips; years that already have a summary are
+  left alone, so the migration can be re-run safely.
+*/
+
+CREATE TABLE IF NOT EXISTS annual_earnings_summaries (
+  id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+  employee_id uuid NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+  year integer NOT NULL CHECK (year >= 2020 AND year <= 2100),
+  payslip_count integer NOT NULL DEFAULT 0,
+  total_base_salary decimal(14, 2) NOT NULL DEFAULT 0,
+  total_overtime_pay decimal(14, 2) NOT NULL DEFAULT 0,
+  total_deductions decimal(14, 2) NOT NULL DEFAULT 0,
+  total_net_salary decimal(14, 2) NOT NULL DEFAULT 0,
+  updated_at timestamp DEFAULT now(),
+  UNIQUE(employee_id, year)
+);
+
+CREATE INDEX IF NOT EXISTS idx_annual_earnings_year ON annual_earnings_summaries(year, employee_id);
+
+INSERT INTO annual_earnings_summaries (employee_id, year, payslip_count, total_base_salary,
+                                       total_overtime_pay, total_deductions, total_net_salary)
+SELECT employee_id, year, COUNT(*), SUM(base_salary), SUM(COALESCE(overtime_pay, 0)),
+       SUM(COALESCE(deductions, 0)), SUM(net_salary)
+FROM payslips
+GROUP BY employee_id, year
+ON CONFLICT (employee_id, year) DO NOTHING;
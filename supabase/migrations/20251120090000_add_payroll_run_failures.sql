@@ -0,0 +1,32 @@
+/*
+  # Payroll run attempt limits
+
+  A partition that keeps failing is no longer re-claimed forever. Once it has used up
+  app.payroll.run.max-attempts it is marked FAILED, and a run whose partitions have all
+  settled with at least one failure is marked FAILED instead of COMPLETED.
+
+  ## Changes
+
+  ### 1. `payroll_run_partitions`
+    - `status` (text) - now PENDING, CLAIMED, DONE or FAILED
+    - `last_error` (text) - Message of the most recent failed attempt
+
+  ### 2. `payroll_runs`
+    - `status` (text) - now RUNNING, COMPLETED or FAILED
+*/
+
+ALTER TABLE payroll_run_partitions ADD COLUMN IF NOT EXISTS last_error text;
+
+ALTER TABLE payroll_run_partitions DROP CONSTRAINT IF EXISTS payroll_run_partitions_status_check;
+ALTER TABLE payroll_run_partitions
+  ADD CONSTRAINT payroll_run_partitions_status_check
+  CHECK (status IN ('PENDING', 'CLAIMED', 'DONE', 'FAILED'));
+
+ALTER TABLE payroll_runs DROP CONSTRAINT IF EXISTS payroll_runs_status_check;
+ALTER TABLE payroll_runs
+  ADD CONSTRAINT payroll_runs_status_check
+  CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED'));
+
+DROP INDEX IF EXISTS idx_payroll_run_partitions_claimable;
+CREATE INDEX IF NOT EXISTS idx_payroll_run_partitions_claimable
+  ON payroll_run_partitions(created_at, partition_index) WHERE status IN ('PENDING', 'CLAIMED');